@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Simple load generator for a running WebGoat, every simulated user is a virtual thread which sends
+ * requests without think time. The requests cover the blocking paths of WebGoat: the lesson menu
+ * (JPA), a SQL injection assignment (JDBC on the lesson database) and sending a mail (call to
+ * WebWolf with the RestTemplate).
+ *
+ * <p>Usage: java scripts/LoadTest.java [url] [users] [seconds] [accounts], see load-test.sh
+ */
+public class LoadTest {
+
+  private record Request(String path, String form) {}
+
+  private static final List<Request> REQUESTS =
+      List.of(
+          new Request("service/lessonmenu.mvc", null),
+          new Request(
+              "SqlInjection/attack2",
+              "query=" + encode("SELECT department FROM employees WHERE userid=96134")),
+          new Request("WebWolf/mail/send", "email={user}@webgoat.org"));
+
+  public static void main(String[] args) throws Exception {
+    var url = args.length > 0 ? args[0] : "http://127.0.0.1:8080/WebGoat/";
+    var users = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+    var duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+    var accounts = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+    var client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+    var sessions = new ArrayList<String>();
+    for (int i = 0; i < accounts; i++) {
+      sessions.add(register(client, url, "loadtest" + i));
+    }
+
+    var errors = new LongAdder();
+    var latencies = new long[users][];
+    var deadline = System.nanoTime() + duration.toNanos();
+    var start = System.nanoTime();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < users; i++) {
+        var user = i;
+        executor.submit(
+            () -> {
+              var account = user % accounts;
+              var measured = new long[1024];
+              var count = 0;
+              while (System.nanoTime() < deadline) {
+                var request = REQUESTS.get(count % REQUESTS.size());
+                var requestStart = System.nanoTime();
+                if (!send(client, url, sessions.get(account), request, "loadtest" + account)) {
+                  errors.increment();
+                }
+                if (count == measured.length) {
+                  measured = Arrays.copyOf(measured, count * 2);
+                }
+                measured[count++] = System.nanoTime() - requestStart;
+              }
+              latencies[user] = Arrays.copyOf(measured, count);
+            });
+      }
+    }
+    var took = Duration.ofNanos(System.nanoTime() - start);
+
+    var all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+    System.out.printf(
+        "users=%d requests=%d errors=%d throughput=%.1f/s p50=%d ms p95=%d ms p99=%d ms max=%d"
+            + " ms%n",
+        users,
+        all.length,
+        errors.sum(),
+        all.length / (took.toMillis() / 1000.0),
+        percentile(all, 0.50),
+        percentile(all, 0.95),
+        percentile(all, 0.99),
+        percentile(all, 1.0));
+  }
+
+  private static boolean send(
+      HttpClient client, String url, String session, Request request, String account) {
+    var builder =
+        HttpRequest.newBuilder(URI.create(url + request.path()))
+            .timeout(Duration.ofSeconds(60))
+            .header("Cookie", session);
+    if (request.form() != null) {
+      builder
+          .header("Content-Type", "application/x-www-form-urlencoded")
+          .POST(HttpRequest.BodyPublishers.ofString(request.form().replace("{user}", account)));
+    }
+    try {
+      return client.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode()
+          == 200;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  /** Registers the account (or logs in if it already exists) and returns the session cookie */
+  private static String register(HttpClient client, String url, String username) throws Exception {
+    var credentials = "username=" + username + "&password=password";
+    for (var attempt :
+        List.of(
+            "register.mvc?" + credentials + "&matchingPassword=password&agree=agree",
+            "login?" + credentials)) {
+      var path = attempt.substring(0, attempt.indexOf('?'));
+      var form = attempt.substring(attempt.indexOf('?') + 1);
+      var response =
+          client.send(
+              HttpRequest.newBuilder(URI.create(url + path))
+                  .header("Content-Type", "application/x-www-form-urlencoded")
+                  .POST(HttpRequest.BodyPublishers.ofString(form))
+                  .build(),
+              HttpResponse.BodyHandlers.discarding());
+      var location = response.headers().firstValue("Location").orElse("");
+      var cookie =
+          response.headers().allValues("Set-Cookie").stream()
+              .filter(c -> c.startsWith("JSESSIONID="))
+              .map(c -> c.substring(0, c.indexOf(';')))
+              .findFirst();
+      if (response.statusCode() == 302 && !location.contains("error") && cookie.isPresent()) {
+        return cookie.get();
+      }
+    }
+    throw new IllegalStateException("Unable to register or login " + username);
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    var index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return Duration.ofNanos(sorted[Math.max(index, 0)]).toMillis();
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+#
+# Compares request handling on platform threads (default) and on virtual threads
+# (WEBGOAT_VIRTUAL_THREADS=true) under load, see LoadTest.java for the requests sent.
+#
+# Usage: ./mvnw package -DskipTests && scripts/load-test.sh [users] [seconds]
+#
+set -euo pipefail
+
+USERS=${1:-2000}
+SECONDS_PER_RUN=${2:-60}
+WEBGOAT_PORT=${WEBGOAT_PORT:-18080}
+WEBWOLF_PORT=${WEBWOLF_PORT:-19090}
+JAR=$(ls target/webgoat-*.jar | grep -v sources | head -1)
+BASE_URL="http://127.0.0.1:${WEBGOAT_PORT}/WebGoat/"
+SCRIPT_DIR=$(cd "$(dirname "$0")" && pwd)
+
+run() {
+  local name=$1
+  local virtual_threads=$2
+  local directory
+  directory=$(mktemp -d)
+  WEBGOAT_VIRTUAL_THREADS=$virtual_threads java \
+    -Dwebgoat.server.directory="$directory" \
+    -Dwebgoat.user.directory="$directory" \
+    -jar "$JAR" \
+    --webgoat.port="$WEBGOAT_PORT" \
+    --webwolf.port="$WEBWOLF_PORT" >"$directory/webgoat.log" 2>&1 &
+  local pid=$!
+  until curl --silent --fail --output /dev/null "${BASE_URL}actuator/health"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "WebGoat did not start, see $directory/webgoat.log" >&2
+      exit 1
+    fi
+    sleep 1
+  done
+  printf "%-17s " "$name"
+  java "$SCRIPT_DIR/LoadTest.java" "$BASE_URL" "$USERS" "$SECONDS_PER_RUN"
+  kill "$pid"
+  wait "$pid" || true
+  rm -rf "$directory"
+}
+
+echo "Load test with $USERS concurrent users for $SECONDS_PER_RUN seconds ($JAR)"
+run "platform threads" false
+run "virtual threads" true
@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+#
+# Measures how long it takes until /actuator/health of WebGoat responds (the same check as the
+# Docker HEALTHCHECK) with and without Spring AOT and the class data sharing archive.
+#
+# Usage: ./mvnw package -Paot -DskipTests && scripts/startup-benchmark.sh [runs]
+#
+set -euo pipefail
+
+RUNS=${1:-3}
+WEBGOAT_PORT=${WEBGOAT_PORT:-18080}
+WEBWOLF_PORT=${WEBWOLF_PORT:-19090}
+JAR=$(ls target/webgoat/webgoat-*.jar)
+CDS_ARCHIVE=target/webgoat/webgoat.jsa
+# The archive of the aot profile is written by a start with AOT, the Docker image starts without AOT
+DEFAULT_CDS_ARCHIVE=target/webgoat/webgoat-default.jsa
+HEALTH_URL="http://127.0.0.1:${WEBGOAT_PORT}/WebGoat/actuator/health"
+
+# Prints the startup time in milliseconds
+measure() {
+  local directory
+  directory=$(mktemp -d)
+  local start
+  start=$(date +%s%N)
+  java "$@" \
+    -Dwebgoat.server.directory="$directory" \
+    -Dwebgoat.user.directory="$directory" \
+    -jar "$JAR" \
+    --webgoat.port="$WEBGOAT_PORT" \
+    --webwolf.port="$WEBWOLF_PORT" >"$directory/webgoat.log" 2>&1 &
+  local pid=$!
+  until curl --silent --fail --output /dev/null "$HEALTH_URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "WebGoat did not start, see $directory/webgoat.log" >&2
+      exit 1
+    fi
+    sleep 0.1
+  done
+  local end
+  end=$(date +%s%N)
+  kill "$pid"
+  wait "$pid" || true
+  rm -rf "$directory"
+  echo $(((end - start) / 1000000))
+}
+
+benchmark() {
+  local name=$1
+  shift
+  local total=0
+  for ((run = 1; run <= RUNS; run++)); do
+    local took
+    took=$(measure "$@")
+    total=$((total + took))
+  done
+  printf "%-20s %6d ms\n" "$name" $((total / RUNS))
+}
+
+# Writes the class data sharing archive for a start without AOT, same as the Docker image
+train() {
+  local directory
+  directory=$(mktemp -d)
+  java -XX:ArchiveClassesAtExit="$DEFAULT_CDS_ARCHIVE" \
+    -Dwebgoat.server.directory="$directory" \
+    -Dwebgoat.user.directory="$directory" \
+    -jar "$JAR" \
+    --webgoat.port=0 \
+    --webwolf.port=0 \
+    --webgoat.startup.exit=true >"$directory/webgoat.log" 2>&1
+  rm -rf "$directory"
+}
+
+train
+echo "Average time until WebGoat is healthy over $RUNS runs ($JAR)"
+benchmark "default"
+benchmark "cds" -XX:SharedArchiveFile="$DEFAULT_CDS_ARCHIVE"
+benchmark "aot" -Dspring.aot.enabled=true
+benchmark "aot + cds" -Dspring.aot.enabled=true -XX:SharedArchiveFile="$CDS_ARCHIVE"
+benchmark "aot + cds, parallel" -Dspring.aot.enabled=true -XX:SharedArchiveFile="$CDS_ARCHIVE" \
+  -Dwebgoat.startup.parallel=true
@@ -0,0 +1,319 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.build;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor which writes the registry of all assignments, for every assignment endpoint
+ * it records the lesson, the path and the hints. The {@code CourseConfiguration} reads this
+ * registry during startup instead of inspecting all assignment endpoints with reflection.
+ *
+ * <p>The registry is written in the first round, all sources of WebGoat are root elements of that
+ * round. The processor lives in the build-only source set {@code src/build/java}: it is compiled
+ * before the other classes, registered with {@code annotationProcessors} of the
+ * maven-compiler-plugin and excluded from the jar (see pom.xml).
+ */
+@SupportedAnnotationTypes("*")
+public class AssignmentRegistryProcessor extends AbstractProcessor {
+
+  static final String REGISTRY = "org.owasp.webgoat.container.lessons.GeneratedAssignmentRegistry";
+
+  private static final String ASSIGNMENT_ENDPOINT =
+      "org.owasp.webgoat.container.assignments.AssignmentEndpoint";
+  private static final String ASSIGNMENT_HINTS =
+      "org.owasp.webgoat.container.assignments.AssignmentHints";
+  private static final String ATTACK_RESULT =
+      "org.owasp.webgoat.container.assignments.AttackResult";
+  private static final String LESSON = "org.owasp.webgoat.container.lessons.Lesson";
+  private static final String LESSONS_PACKAGE = "org.owasp.webgoat.lessons";
+  private static final String COMPONENT = "org.springframework.stereotype.Component";
+
+  /** In order of precedence, same as the lookup done by the CourseConfiguration before */
+  private static final List<String> MAPPINGS =
+      List.of(
+          "org.springframework.web.bind.annotation.RequestMapping",
+          "org.springframework.web.bind.annotation.PostMapping",
+          "org.springframework.web.bind.annotation.GetMapping",
+          "org.springframework.web.bind.annotation.PutMapping");
+
+  private boolean registryWritten;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    if (processingEnv.getElementUtils().getTypeElement(ASSIGNMENT_ENDPOINT) == null) {
+      return false;
+    }
+    if (round.processingOver()) {
+      return false;
+    }
+    var endpoints = new ArrayList<TypeElement>();
+    var lessons = new ArrayList<TypeElement>();
+    round.getRootElements().forEach(element -> collect(element, endpoints, lessons));
+    if (endpoints.isEmpty()) {
+      return false;
+    }
+    if (registryWritten) {
+      endpoints.forEach(
+          endpoint ->
+              error(
+                  endpoint,
+                  "Assignment endpoint: %s is generated by another annotation processor, it cannot"
+                      + " be added to the registry",
+                  endpoint.getQualifiedName()));
+    } else {
+      writeRegistry(endpoints, lessons);
+      registryWritten = true;
+    }
+    return false;
+  }
+
+  private void collect(Element element, List<TypeElement> endpoints, List<TypeElement> lessons) {
+    if (element.getKind() != ElementKind.CLASS) {
+      return;
+    }
+    var type = (TypeElement) element;
+    if (!type.getModifiers().contains(Modifier.ABSTRACT)) {
+      if (isSubtype(type, ASSIGNMENT_ENDPOINT) && isComponent(type, new HashSet<>())) {
+        endpoints.add(type);
+      } else if (isSubtype(type, LESSON)) {
+        lessons.add(type);
+      }
+    }
+    ElementFilter.typesIn(type.getEnclosedElements())
+        .forEach(enclosed -> collect(enclosed, endpoints, lessons));
+  }
+
+  private void writeRegistry(List<TypeElement> endpoints, List<TypeElement> lessons) {
+    var registrations =
+        endpoints.stream()
+            .sorted(Comparator.comparing(e -> e.getQualifiedName().toString()))
+            .map(endpoint -> toRegistration(endpoint, lessons))
+            .flatMap(Optional::stream)
+            .collect(Collectors.joining(",\n"));
+    var packageName = REGISTRY.substring(0, REGISTRY.lastIndexOf('.'));
+    var simpleName = REGISTRY.substring(REGISTRY.lastIndexOf('.') + 1);
+    var source =
+        """
+        package %s;
+
+        import java.util.List;
+
+        /** Generated by %s, do not edit. */
+        final class %s {
+
+          static final List<AssignmentRegistration> ASSIGNMENTS =
+              List.of(
+        %s);
+
+          private %s() {}
+        }
+        """
+            .formatted(packageName, getClass().getName(), simpleName, registrations, simpleName);
+    try (var writer =
+        processingEnv
+            .getFiler()
+            .createSourceFile(REGISTRY, endpoints.toArray(Element[]::new))
+            .openWriter()) {
+      writer.write(source);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Optional<String> toRegistration(TypeElement endpoint, List<TypeElement> lessons) {
+    var lesson = findLesson(endpoint, lessons);
+    var path = findPath(endpoint);
+    if (lesson.isEmpty() || path.isEmpty()) {
+      return Optional.empty();
+    }
+    var hints =
+        findHints(endpoint).stream()
+            .map(hint -> processingEnv.getElementUtils().getConstantExpression(hint))
+            .collect(Collectors.joining(", "));
+    return Optional.of(
+        "          new AssignmentRegistration(%s.class, %s.class, %s, List.of(%s))"
+            .formatted(
+                endpoint.getQualifiedName(),
+                lesson.get().getQualifiedName(),
+                processingEnv.getElementUtils().getConstantExpression(path.get()),
+                hints));
+  }
+
+  /** The lesson in the same package or if not found, the lesson in the nearest parent package */
+  private Optional<TypeElement> findLesson(TypeElement endpoint, List<TypeElement> lessons) {
+    var packageName =
+        processingEnv.getElementUtils().getPackageOf(endpoint).getQualifiedName().toString();
+    while (packageName.startsWith(LESSONS_PACKAGE + ".")) {
+      var currentPackage = packageName;
+      var lesson =
+          lessons.stream()
+              .filter(
+                  l ->
+                      processingEnv
+                          .getElementUtils()
+                          .getPackageOf(l)
+                          .getQualifiedName()
+                          .contentEquals(currentPackage))
+              .findFirst();
+      if (lesson.isPresent()) {
+        return lesson;
+      }
+      packageName = packageName.substring(0, packageName.lastIndexOf('.'));
+    }
+    error(endpoint, "No lesson found for assignment: '%s'", endpoint.getSimpleName());
+    return Optional.empty();
+  }
+
+  /**
+   * The path of the public mapping returning an AttackResult, superclasses included. If there are
+   * multiple, the shortest one is the assignment (for example "/WebWolf/mail"), the others are
+   * actions within the assignment (for example "/WebWolf/mail/send").
+   */
+  private Optional<String> findPath(TypeElement endpoint) {
+    var paths = new ArrayList<String>();
+    for (var type = endpoint; type != null; type = superclass(type)) {
+      for (var method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+        if (method.getModifiers().contains(Modifier.PUBLIC) && returnsAttackResult(method)) {
+          findMapping(method).ifPresent(paths::add);
+        }
+      }
+    }
+    if (!paths.isEmpty()) {
+      return paths.stream()
+          .min(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+    }
+    error(
+        endpoint,
+        "Assignment endpoint: %s has no mapping like @GetMapping/@PostMapping etc,with return type"
+            + " 'AttackResult' or 'ResponseEntity<AttackResult>' please consider adding one",
+        endpoint.getQualifiedName());
+    return Optional.empty();
+  }
+
+  private boolean returnsAttackResult(ExecutableElement method) {
+    var attackResult = processingEnv.getElementUtils().getTypeElement(ATTACK_RESULT).asType();
+    var returnType = method.getReturnType();
+    if (processingEnv.getTypeUtils().isSameType(returnType, attackResult)) {
+      return true;
+    }
+    return returnType instanceof DeclaredType declaredType
+        && !declaredType.getTypeArguments().isEmpty()
+        && processingEnv
+            .getTypeUtils()
+            .isSameType(declaredType.getTypeArguments().getFirst(), attackResult);
+  }
+
+  private Optional<String> findMapping(ExecutableElement method) {
+    for (var mappingAnnotation : MAPPINGS) {
+      var mapping = findAnnotation(method, mappingAnnotation);
+      if (mapping.isPresent()) {
+        var values = processingEnv.getElementUtils().getElementValuesWithDefaults(mapping.get());
+        var paths = new ArrayList<String>();
+        paths.addAll(stringValues(values, "value"));
+        paths.addAll(stringValues(values, "path"));
+        return Optional.of(paths.stream().filter(path -> !path.isEmpty()).findFirst().orElse(""));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private List<String> findHints(TypeElement endpoint) {
+    return findAnnotation(endpoint, ASSIGNMENT_HINTS)
+        .map(
+            hints ->
+                stringValues(
+                    processingEnv.getElementUtils().getElementValuesWithDefaults(hints), "value"))
+        .orElse(List.of());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> stringValues(
+      Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+    return values.entrySet().stream()
+        .filter(e -> e.getKey().getSimpleName().contentEquals(name))
+        .flatMap(e -> ((List<? extends AnnotationValue>) e.getValue().getValue()).stream())
+        .map(value -> (String) value.getValue())
+        .toList();
+  }
+
+  private static Optional<AnnotationMirror> findAnnotation(Element element, String annotation) {
+    return element.getAnnotationMirrors().stream()
+        .filter(
+            mirror ->
+                ((TypeElement) mirror.getAnnotationType().asElement())
+                    .getQualifiedName()
+                    .contentEquals(annotation))
+        .map(AnnotationMirror.class::cast)
+        .findFirst();
+  }
+
+  /** Only endpoints which are Spring beans are assignments, for example @RestController */
+  private boolean isComponent(Element element, Set<String> visited) {
+    for (var mirror : element.getAnnotationMirrors()) {
+      var annotation = (TypeElement) mirror.getAnnotationType().asElement();
+      var name = annotation.getQualifiedName().toString();
+      if (name.equals(COMPONENT)) {
+        return true;
+      }
+      if (visited.add(name) && isComponent(annotation, visited)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isSubtype(TypeElement type, String superType) {
+    var superTypeElement = processingEnv.getElementUtils().getTypeElement(superType);
+    var types = processingEnv.getTypeUtils();
+    return superTypeElement != null
+        && types.isAssignable(
+            types.erasure(type.asType()), types.erasure(superTypeElement.asType()));
+  }
+
+  private static TypeElement superclass(TypeElement type) {
+    var superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) {
+      return null;
+    }
+    var element = (TypeElement) ((DeclaredType) superclass).asElement();
+    return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+  }
+
+  private void error(Element element, String message, Object... args) {
+    processingEnv
+        .getMessager()
+        .printMessage(Diagnostic.Kind.ERROR, message.formatted(args), element);
+  }
+}
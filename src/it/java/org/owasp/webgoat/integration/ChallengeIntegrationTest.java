@@ -114,17 +114,7 @@ public class ChallengeIntegrationTest extends IntegrationTest {
         .asString();
 
     // Check whether email has been received
-    var responseBody =
-        RestAssured.given()
-            .when()
-            .relaxedHTTPSValidation()
-            .cookie("WEBWOLFSESSION", getWebWolfCookie())
-            .get(webWolfUrlConfig.url("mail"))
-            .then()
-            .extract()
-            .response()
-            .getBody()
-            .asString();
+    var responseBody = getMailbox("Hi, you requested a password reset link");
     Assertions.assertThat(responseBody).contains("Hi, you requested a password reset link");
 
     // Call reset link with admin link
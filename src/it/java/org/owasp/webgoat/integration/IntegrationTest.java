@@ -9,7 +9,9 @@ import static io.restassured.RestAssured.given;
 import io.restassured.RestAssured;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
 import lombok.Getter;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
@@ -253,4 +255,31 @@ public abstract class IntegrationTest {
         .then()
         .statusCode(HttpStatus.ACCEPTED.value());
   }
+
+  /**
+   * WebGoat delivers the mails to WebWolf in the background, so wait until the expected mail is in
+   * the mailbox
+   *
+   * @return the mailbox page
+   */
+  public String getMailbox(String expectedText) {
+    var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while (true) {
+      var mailbox =
+          RestAssured.given()
+              .when()
+              .relaxedHTTPSValidation()
+              .cookie("WEBWOLFSESSION", getWebWolfCookie())
+              .get(webWolfUrlConfig.url("mail"))
+              .then()
+              .extract()
+              .response()
+              .getBody()
+              .asString();
+      if (mailbox.contains(expectedText) || System.nanoTime() > deadline) {
+        return mailbox;
+      }
+      LockSupport.parkNanos(Duration.ofMillis(100).toNanos());
+    }
+  }
 }
@@ -84,17 +84,7 @@ public class PasswordResetLessonIntegrationTest extends IntegrationTest {
   public void sendEmailShouldBeAvailableInWebWolf() {
     clickForgotEmailLink(this.getUser() + "@webgoat.org");
 
-    var responseBody =
-        RestAssured.given()
-            .when()
-            .relaxedHTTPSValidation()
-            .cookie("WEBWOLFSESSION", getWebWolfCookie())
-            .get(webWolfUrlConfig.url("mail"))
-            .then()
-            .extract()
-            .response()
-            .getBody()
-            .asString();
+    var responseBody = getMailbox("Hi, you requested a password reset link");
 
     Assertions.assertThat(responseBody).contains("Hi, you requested a password reset link");
   }
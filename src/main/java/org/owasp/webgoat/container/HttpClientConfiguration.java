@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import java.time.Duration;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The HTTP client for all outbound calls of WebGoat and the lessons, for example the mails sent to
+ * WebWolf or the SSRF lesson. The connections are pooled with a limit per host, the connect and
+ * read timeouts are set with {@code spring.http.client.connect-timeout} and {@code
+ * spring.http.client.read-timeout}.
+ *
+ * <p>Every call is recorded by Spring Boot in the {@code http.client.requests} metric, the tag
+ * {@code client.name} contains the host and {@code outcome} / {@code exception} show the errors.
+ * Calls to a host chosen by the user, like the jku header in the JWT lesson, use their own {@code
+ * RestTemplate} with fixed tags to keep the number of metrics bounded.
+ */
+@Configuration
+public class HttpClientConfiguration {
+
+  @Bean
+  public ClientHttpRequestFactoryBuilder<?> clientHttpRequestFactoryBuilder(
+      @Value("${webgoat.http.client.max-connections:100}") int maxConnections,
+      @Value("${webgoat.http.client.max-connections-per-host:20}") int maxConnectionsPerHost,
+      @Value("${webgoat.http.client.connection-request-timeout:5s}")
+          Duration connectionRequestTimeout) {
+    return ClientHttpRequestFactoryBuilder.httpComponents()
+        .withConnectionManagerCustomizer(
+            connectionManager ->
+                connectionManager
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxConnectionsPerHost))
+        .withDefaultRequestConfigCustomizer(
+            requestConfig ->
+                requestConfig.setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout)));
+  }
+
+  @Bean
+  public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+    return restTemplateBuilder.build();
+  }
+}
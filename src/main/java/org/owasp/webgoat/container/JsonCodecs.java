@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.TreeMap;
+
+/**
+ * Shared JSON readers and writers for the places which parse JSON themselves (lessons which need to
+ * give feedback on invalid JSON, the JWT tool of WebWolf). Creating an {@code ObjectMapper} per
+ * request also throws away its serializer caches. Readers and writers are immutable and thread
+ * safe, keep the one for a type in a static field:
+ *
+ * <pre>{@code
+ * private static final ObjectReader COMMENT_READER = JsonCodecs.readerFor(Comment.class);
+ * }</pre>
+ *
+ * <p>The mapper uses the Jackson defaults (and not the configuration of the Spring mapper), so
+ * unknown properties are still rejected like before.
+ */
+public final class JsonCodecs {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /** Reads a JSON object into a map sorted by key */
+  public static final ObjectReader SORTED_MAP_READER = MAPPER.readerFor(TreeMap.class);
+
+  public static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+
+  private JsonCodecs() {}
+
+  public static ObjectReader readerFor(Class<?> type) {
+    return MAPPER.readerFor(type);
+  }
+}
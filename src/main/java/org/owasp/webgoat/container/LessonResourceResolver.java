@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+/**
+ * Resolves a static lesson resource with one lookup in the {@link LessonResourceScanner} index
+ * instead of probing the resource directory of every lesson. Only paths present in the index can be
+ * resolved, so no location checks are necessary.
+ */
+public class LessonResourceResolver extends PathResourceResolver {
+
+  private final LessonResourceScanner lessonScanner;
+  private final String directory;
+
+  /**
+   * @param directory the directory within the lesson, for example "js" for /lesson_js/**
+   */
+  public LessonResourceResolver(LessonResourceScanner lessonScanner, String directory) {
+    this.lessonScanner = lessonScanner;
+    this.directory = directory;
+  }
+
+  @Override
+  protected Resource resolveResourceInternal(
+      HttpServletRequest request,
+      String requestPath,
+      List<? extends Resource> locations,
+      ResourceResolverChain chain) {
+    var lesson = lessonScanner.findLesson(directory, requestPath);
+    if (lesson == null) {
+      return null;
+    }
+    return new ClassPathResource("lessons/%s/%s/%s".formatted(lesson, directory, requestPath));
+  }
+
+  @Override
+  protected String resolveUrlPathInternal(
+      String resourceUrlPath, List<? extends Resource> locations, ResourceResolverChain chain) {
+    return lessonScanner.findLesson(directory, resourceUrlPath) != null ? resourceUrlPath : null;
+  }
+}
@@ -5,42 +5,110 @@
 package org.owasp.webgoat.container;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
-import lombok.Getter;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.stereotype.Component;
 
+/**
+ * Knows which lesson directory contains a static resource, for example "js/jwt-voting.js" is
+ * located in the lesson directory "jwt". The build writes this index to {@link #INDEX_LOCATION}
+ * (see {@link org.owasp.webgoat.server.LessonResourceIndexer}), when WebGoat is started without the
+ * index (for example from the IDE) the classpath is scanned instead.
+ */
 @Component
 @Slf4j
 public class LessonResourceScanner {
 
-  private static final Pattern lessonPattern = Pattern.compile("^.*/lessons/([^/]*)/.*$");
+  public static final String INDEX_LOCATION = "classpath:/lessons/lesson-resources.txt";
+
+  /** The directories of a lesson which are served as static resources */
+  private static final List<String> RESOURCE_DIRECTORIES =
+      List.of("images", "js", "css", "templates", "video");
+
+  private static final Pattern lessonPattern =
+      Pattern.compile("^.*/lessons/([^/]*)/((?:images|js|css|templates|video)/.*[^/])$");
 
-  @Getter private final Set<String> lessons = new HashSet<>();
+  private final Map<String, String> lessonByResource;
 
   public LessonResourceScanner(ResourcePatternResolver resourcePatternResolver) {
+    var index = resourcePatternResolver.getResource(INDEX_LOCATION);
+    this.lessonByResource = index.exists() ? load(index) : scan(resourcePatternResolver);
+    log.debug(
+        "Found {} resources in {} lessons",
+        lessonByResource.size(),
+        Set.copyOf(lessonByResource.values()).size());
+  }
+
+  /**
+   * @param directory the resource directory within the lesson, for example "js"
+   * @param path the path of the resource within that directory, for example "jwt-voting.js"
+   * @return the lesson directory containing the resource or null if no lesson has it
+   */
+  public String findLesson(String directory, String path) {
+    return lessonByResource.get(directory + "/" + path);
+  }
+
+  /**
+   * Scans the classpath for static lesson resources. If multiple lessons contain the same resource
+   * the first lesson in alphabetical order wins.
+   *
+   * @return the lesson directory by resource path, sorted by resource path
+   */
+  public static Map<String, String> scan(ResourcePatternResolver resourcePatternResolver) {
+    var lessonByResource = new TreeMap<String, String>();
     try {
-      var resources = resourcePatternResolver.getResources("classpath:/lessons/*/*");
-      for (var resource : resources) {
-        // WG can run as a fat jar or as directly from file system we need to support both so use
-        // the URL
-        var url = resource.getURL();
-        var matcher = lessonPattern.matcher(url.toString());
-        if (matcher.matches()) {
-          lessons.add(matcher.group(1));
+      for (var directory : RESOURCE_DIRECTORIES) {
+        for (var resource :
+            resourcePatternResolver.getResources("classpath*:/lessons/*/" + directory + "/**")) {
+          // WG can run as a fat jar or as directly from file system we need to support both so use
+          // the URL
+          var matcher = lessonPattern.matcher(resource.getURL().toString());
+          if (resource.isReadable() && matcher.matches() && !matcher.group(2).endsWith(".gz")) {
+            lessonByResource.merge(
+                matcher.group(2),
+                matcher.group(1),
+                (first, second) -> first.compareTo(second) <= 0 ? first : second);
+          }
         }
       }
-      log.debug("Found {} lessons", lessons.size());
     } catch (IOException e) {
       log.warn("No lessons found...");
     }
+    return lessonByResource;
+  }
+
+  private static Map<String, String> load(Resource index) {
+    try {
+      var lessonByResource = new HashMap<String, String>();
+      index
+          .getContentAsString(StandardCharsets.UTF_8)
+          .lines()
+          .filter(line -> !line.isBlank())
+          .map(line -> line.split("\t", 2))
+          .forEach(entry -> lessonByResource.put(entry[1], entry[0]));
+      return lessonByResource;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read the lesson resource index", e);
+    }
   }
 
-  public List<String> applyPattern(String pattern) {
-    return lessons.stream().map(lesson -> String.format(pattern, lesson)).toList();
+  /**
+   * @return the index in the format which is read during startup, one "lesson TAB resource" per
+   *     line
+   */
+  public static String format(Map<String, String> lessonByResource) {
+    return lessonByResource.entrySet().stream()
+        .map(e -> e.getValue() + "\t" + e.getKey())
+        .collect(Collectors.joining("\n", "", "\n"));
   }
 }
@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.owasp.webgoat.container.assignments.AssignmentCostInterceptor;
 import org.owasp.webgoat.container.i18n.Language;
 import org.owasp.webgoat.container.i18n.Messages;
 import org.owasp.webgoat.container.i18n.PluginMessages;
@@ -22,11 +23,15 @@ import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.web.servlet.LocaleResolver;
 import org.springframework.web.servlet.ViewResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 import org.thymeleaf.IEngineConfiguration;
 import org.thymeleaf.extras.springsecurity6.dialect.SpringSecurityDialect;
 import org.thymeleaf.spring6.SpringTemplateEngine;
@@ -47,6 +52,7 @@ public class MvcConfiguration implements WebMvcConfigurer {
   private static final String UTF8 = "UTF-8";
 
   private final LessonResourceScanner lessonScanner;
+  private final AssignmentCostInterceptor assignmentCostInterceptor;
 
   @Override
   public void addViewControllers(ViewControllerRegistry registry) {
@@ -150,36 +156,57 @@ public class MvcConfiguration implements WebMvcConfigurer {
   @Override
   public void addResourceHandlers(ResourceHandlerRegistry registry) {
     // WebGoat internal
-    registry.addResourceHandler("/css/**").addResourceLocations("classpath:/webgoat/static/css/");
-    registry.addResourceHandler("/js/**").addResourceLocations("classpath:/webgoat/static/js/");
-    registry
-        .addResourceHandler("/plugins/**")
-        .addResourceLocations("classpath:/webgoat/static/plugins/");
-    registry
-        .addResourceHandler("/fonts/**")
-        .addResourceLocations("classpath:/webgoat/static/fonts/");
+    addFingerprintedResources(registry, "/css/**", "classpath:/webgoat/static/css/");
+    addFingerprintedResources(registry, "/js/**", "classpath:/webgoat/static/js/");
+    addFingerprintedResources(registry, "/plugins/**", "classpath:/webgoat/static/plugins/");
+    addFingerprintedResources(registry, "/fonts/**", "classpath:/webgoat/static/fonts/");
 
     // WebGoat lessons
-    registry
-        .addResourceHandler("/images/**")
-        .addResourceLocations(
-            lessonScanner.applyPattern("classpath:/lessons/%s/images/").toArray(String[]::new));
-    registry
-        .addResourceHandler("/lesson_js/**")
-        .addResourceLocations(
-            lessonScanner.applyPattern("classpath:/lessons/%s/js/").toArray(String[]::new));
-    registry
-        .addResourceHandler("/lesson_css/**")
-        .addResourceLocations(
-            lessonScanner.applyPattern("classpath:/lessons/%s/css/").toArray(String[]::new));
+    addFingerprintedLessonResources(registry, "/images/**", "images");
+    addFingerprintedLessonResources(registry, "/lesson_js/**", "js");
+    addFingerprintedLessonResources(registry, "/lesson_css/**", "css");
     registry
         .addResourceHandler("/lesson_templates/**")
-        .addResourceLocations(
-            lessonScanner.applyPattern("classpath:/lessons/%s/templates/").toArray(String[]::new));
-    registry
-        .addResourceHandler("/video/**")
-        .addResourceLocations(
-            lessonScanner.applyPattern("classpath:/lessons/%s/video/").toArray(String[]::new));
+        .resourceChain(true)
+        .addResolver(new LessonResourceResolver(lessonScanner, "templates"));
+    addFingerprintedLessonResources(registry, "/video/**", "video");
+  }
+
+  /**
+   * Links to these resources created with Thymeleaf (@{/css/main.css}) are rewritten by the {@link
+   * ResourceUrlEncodingFilter} to contain a hash of the content, see {@link
+   * StaticResourceCacheInterceptor} for the caching headers. If the build created a gzip variant
+   * (see {@link org.owasp.webgoat.server.StaticResourceCompressor}) it is served to browsers
+   * accepting gzip.
+   */
+  private void addFingerprintedResources(
+      ResourceHandlerRegistry registry, String pathPattern, String... locations) {
+    fingerprinted(
+        registry
+            .addResourceHandler(pathPattern)
+            .addResourceLocations(locations)
+            .resourceChain(true));
+  }
+
+  /**
+   * Same as {@link #addFingerprintedResources} but the resource is looked up in the lesson resource
+   * index instead of trying the directory of every lesson.
+   */
+  private void addFingerprintedLessonResources(
+      ResourceHandlerRegistry registry, String pathPattern, String directory) {
+    fingerprinted(registry.addResourceHandler(pathPattern).resourceChain(true))
+        .addResolver(new LessonResourceResolver(lessonScanner, directory));
+  }
+
+  private ResourceChainRegistration fingerprinted(ResourceChainRegistration chain) {
+    return chain
+        .addResolver(new EncodedResourceResolver())
+        .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+  }
+
+  @Bean
+  public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+    return new ResourceUrlEncodingFilter();
   }
 
   @Bean
@@ -214,6 +241,8 @@ public class MvcConfiguration implements WebMvcConfigurer {
   public void addInterceptors(InterceptorRegistry registry) {
     registry.addInterceptor(localeChangeInterceptor());
     registry.addInterceptor(new UserInterceptor());
+    registry.addInterceptor(new StaticResourceCacheInterceptor());
+    registry.addInterceptor(assignmentCostInterceptor);
   }
 
   @Bean
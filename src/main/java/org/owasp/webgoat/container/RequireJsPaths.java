@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+/**
+ * The fingerprinted paths of the RequireJS modules in {@code /js}, relative to the RequireJS base
+ * url and without {@code .js}, for example {@code goatApp/goatApp -> goatApp/goatApp-0b1d...e3}.
+ * main_new.html passes them to RequireJS so the modules are cached like the other fingerprinted
+ * resources, see {@link StaticResourceCacheInterceptor}.
+ */
+@Component
+public class RequireJsPaths {
+
+  private static final String LOCATION = "/webgoat/static/js/";
+  private static final String URL_PATH = "/js/";
+
+  private final ResourcePatternResolver resourcePatternResolver;
+  private final ResourceUrlProvider resourceUrlProvider;
+  private volatile Map<String, String> paths;
+
+  public RequireJsPaths(
+      ResourcePatternResolver resourcePatternResolver, ResourceUrlProvider resourceUrlProvider) {
+    this.resourcePatternResolver = resourcePatternResolver;
+    this.resourceUrlProvider = resourceUrlProvider;
+  }
+
+  /** Created on first use, the resource handlers are only known after the context is refreshed */
+  public Map<String, String> paths() {
+    if (paths == null) {
+      paths = Collections.unmodifiableMap(scan());
+    }
+    return paths;
+  }
+
+  private Map<String, String> scan() {
+    var modules = new TreeMap<String, String>();
+    try {
+      for (var resource :
+          resourcePatternResolver.getResources("classpath:" + LOCATION + "**/*.js")) {
+        var url = resource.getURL().toString();
+        var file = url.substring(url.lastIndexOf(LOCATION) + LOCATION.length());
+        var versioned = resourceUrlProvider.getForLookupPath(URL_PATH + file);
+        if (versioned != null && !versioned.equals(URL_PATH + file)) {
+          modules.put(
+              withoutExtension(file), withoutExtension(versioned.substring(URL_PATH.length())));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return modules;
+  }
+
+  private static String withoutExtension(String file) {
+    return file.substring(0, file.length() - ".js".length());
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.regex.Pattern;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+/**
+ * Sets the caching headers for the static resources. A fingerprinted url (for example
+ * css/main-0b1d...e3.css, see {@link MvcConfiguration}) changes whenever the content changes, so
+ * the browser may keep it forever. Resources requested without fingerprint, for example the modules
+ * loaded by RequireJS, must be revalidated by the browser.
+ */
+public class StaticResourceCacheInterceptor implements HandlerInterceptor {
+
+  private static final Pattern CONTENT_HASH = Pattern.compile("-[0-9a-f]{32}\\.[^/]+$");
+  private static final String FINGERPRINTED =
+      CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+  private static final String NOT_FINGERPRINTED = CacheControl.noCache().getHeaderValue();
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (handler instanceof ResourceHttpRequestHandler) {
+      response.setHeader(
+          HttpHeaders.CACHE_CONTROL,
+          CONTENT_HASH.matcher(request.getRequestURI()).find() ? FINGERPRINTED : NOT_FINGERPRINTED);
+    }
+    return true;
+  }
+}
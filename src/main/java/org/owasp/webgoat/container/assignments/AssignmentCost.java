@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.assignments;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an endpoint method which is expensive to run, for example because it compiles code or
+ * generates keys. The {@link AssignmentCostInterceptor} limits how many requests run at the same
+ * time and how often a user may call the endpoint, other requests are answered with {@code 429 Too
+ * Many Requests} and a {@code Retry-After} header.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AssignmentCost {
+
+  /** Requests running at the same time on this server */
+  int concurrency() default 4;
+
+  /** Requests waiting for one of the running requests to finish, more are rejected */
+  int queue() default 16;
+
+  /** Maximum time a request waits in the queue */
+  long queueTimeoutMillis() default 2000;
+
+  /** Requests per minute a user may send once the burst is used up */
+  int perUserPerMinute() default 30;
+
+  /** Requests a user may send at once */
+  int burst() default 10;
+}
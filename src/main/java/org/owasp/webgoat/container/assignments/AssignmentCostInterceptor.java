@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.assignments;
+
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admission control for the endpoints annotated with {@link AssignmentCost}. Every endpoint has a
+ * bulkhead (a limited number of running requests plus a bounded queue) and every user a token
+ * bucket per endpoint. A request exceeding one of the limits is rejected with {@code 429} before
+ * the endpoint is called.
+ *
+ * <p>Rejections are counted in the metric {@code webgoat.assignment.rejected} with the tags {@code
+ * endpoint} and {@code reason} ({@code rate} or {@code concurrency}).
+ */
+@Component
+@Slf4j
+public class AssignmentCostInterceptor implements HandlerInterceptor {
+
+  private static final String BULKHEAD = AssignmentCostInterceptor.class.getName() + ".bulkhead";
+  private static final int MAX_BUCKETS = 10_000;
+
+  private record BucketKey(Method endpoint, String user) {}
+
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final Map<Method, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+  /** The least recently used buckets are removed first, so an active user keeps its limit */
+  private final Map<BucketKey, TokenBucket> buckets;
+
+  @Autowired
+  public AssignmentCostInterceptor(
+      MeterRegistry meterRegistry,
+      @Value("${webgoat.assignment-cost.enabled:true}") boolean enabled) {
+    this(meterRegistry, enabled, MAX_BUCKETS);
+  }
+
+  AssignmentCostInterceptor(MeterRegistry meterRegistry, boolean enabled, int maxBuckets) {
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.buckets =
+        CacheBuilder.newBuilder().maximumSize(maxBuckets).<BucketKey, TokenBucket>build().asMap();
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+      throws InterruptedException {
+    if (!enabled
+        || !(handler instanceof HandlerMethod handlerMethod)
+        || !handlerMethod.hasMethodAnnotation(AssignmentCost.class)) {
+      return true;
+    }
+    var method = handlerMethod.getMethod();
+    var cost = handlerMethod.getMethodAnnotation(AssignmentCost.class);
+
+    var bucket = bucket(method, cost, user(request));
+    var waitNanos = bucket.tryConsume();
+    if (waitNanos > 0) {
+      return reject(response, method, "rate", Duration.ofNanos(waitNanos));
+    }
+    var bulkhead = bulkheads.computeIfAbsent(method, m -> new Bulkhead(cost));
+    if (!bulkhead.tryEnter()) {
+      // the endpoint was not called, the user should not pay for it
+      bucket.refund();
+      return reject(response, method, "concurrency", Duration.ofSeconds(1));
+    }
+    request.setAttribute(BULKHEAD, bulkhead);
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.getAttribute(BULKHEAD) instanceof Bulkhead bulkhead) {
+      request.removeAttribute(BULKHEAD);
+      bulkhead.leave();
+    }
+  }
+
+  private TokenBucket bucket(Method method, AssignmentCost cost, String user) {
+    return buckets.computeIfAbsent(
+        new BucketKey(method, user), key -> new TokenBucket(cost.burst(), cost.perUserPerMinute()));
+  }
+
+  private static String user(HttpServletRequest request) {
+    var principal = request.getUserPrincipal();
+    return principal != null ? principal.getName() : request.getRemoteAddr();
+  }
+
+  private boolean reject(
+      HttpServletResponse response, Method method, String reason, Duration retryAfter) {
+    var endpoint = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    meterRegistry
+        .counter("webgoat.assignment.rejected", "endpoint", endpoint, "reason", reason)
+        .increment();
+    log.debug("Rejected request to {}, {} limit exceeded", endpoint, reason);
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    var seconds = Math.max(1, Math.ceilDiv(retryAfter.toMillis(), 1000));
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+    return false;
+  }
+
+  /** Limits the running requests of an endpoint, a bounded number of requests may wait */
+  static class Bulkhead {
+    private final Semaphore running;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final int queue;
+    private final long queueTimeoutMillis;
+
+    Bulkhead(AssignmentCost cost) {
+      this.running = new Semaphore(cost.concurrency(), true);
+      this.queue = cost.queue();
+      this.queueTimeoutMillis = cost.queueTimeoutMillis();
+    }
+
+    boolean tryEnter() throws InterruptedException {
+      if (running.tryAcquire()) {
+        return true;
+      }
+      if (queued.incrementAndGet() > queue) {
+        queued.decrementAndGet();
+        return false;
+      }
+      try {
+        return running.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+      } finally {
+        queued.decrementAndGet();
+      }
+    }
+
+    void leave() {
+      running.release();
+    }
+  }
+
+  /** Allows {@code burst} requests at once, refilled with {@code perMinute} tokens per minute */
+  static class TokenBucket {
+    private final int capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(int capacity, int perMinute) {
+      this.capacity = capacity;
+      this.tokensPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+      this.tokens = capacity;
+      this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * @return 0 if the request may proceed, otherwise the nanoseconds until the next token
+     */
+    synchronized long tryConsume() {
+      refill();
+      if (tokens >= 1) {
+        tokens--;
+        return 0;
+      }
+      return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+
+    /** Returns the token of a request which was rejected later on */
+    synchronized void refund() {
+      tokens = Math.min(capacity, tokens + 1);
+    }
+
+    private void refill() {
+      var now = System.nanoTime();
+      tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+      refilledAt = now;
+    }
+  }
+}
@@ -4,8 +4,6 @@
  */
 package org.owasp.webgoat.container.assignments;
 
-import static org.apache.commons.text.StringEscapeUtils.escapeJson;
-
 import lombok.Getter;
 import org.owasp.webgoat.container.i18n.PluginMessages;
 
@@ -27,8 +25,8 @@ public class AttackResult {
       String assignment,
       boolean attemptWasMade) {
     this.lessonCompleted = lessonCompleted;
-    this.feedback = escapeJson(feedback);
-    this.output = escapeJson(output);
+    this.feedback = JsonEscaper.escape(feedback);
+    this.output = JsonEscaper.escape(output);
     this.assignment = assignment;
     this.attemptWasMade = attemptWasMade;
   }
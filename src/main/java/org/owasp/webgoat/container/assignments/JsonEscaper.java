@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.assignments;
+
+/**
+ * Escapes a string exactly like {@code StringEscapeUtils.escapeJson} from commons-text, but in one
+ * pass. The feedback and especially the output of an assignment can contain large SQL result
+ * tables, a string which does not need escaping is returned as is and otherwise it is copied once
+ * into a pre-sized buffer.
+ *
+ * <p>Like commons-text everything outside {@code ' '..'~'} is written as a unicode escape, this
+ * includes DEL ({@code 0x7F}) which JSON itself would allow unescaped.
+ */
+final class JsonEscaper {
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private JsonEscaper() {}
+
+  static String escape(String input) {
+    if (input == null) {
+      return null;
+    }
+    int length = input.length();
+    int first = 0;
+    while (first < length && !needsEscaping(input.charAt(first))) {
+      first++;
+    }
+    if (first == length) {
+      return input;
+    }
+
+    var result = new StringBuilder(length + 16 + (length >> 3));
+    result.append(input, 0, first);
+    int start = first;
+    for (int i = first; i < length; i++) {
+      char c = input.charAt(i);
+      if (needsEscaping(c)) {
+        result.append(input, start, i);
+        escape(c, result);
+        start = i + 1;
+      }
+    }
+    result.append(input, start, length);
+    return result.toString();
+  }
+
+  private static boolean needsEscaping(char c) {
+    return c < ' ' || c > '~' || c == '"' || c == '\\' || c == '/';
+  }
+
+  private static void escape(char c, StringBuilder result) {
+    switch (c) {
+      case '"' -> result.append("\\\"");
+      case '\\' -> result.append("\\\\");
+      case '/' -> result.append("\\/");
+      case '\b' -> result.append("\\b");
+      case '\n' -> result.append("\\n");
+      case '\t' -> result.append("\\t");
+      case '\f' -> result.append("\\f");
+      case '\r' -> result.append("\\r");
+      default ->
+          // control characters, DEL and non ASCII, surrogate pairs end up as two escaped chars
+          result
+              .append("\\u")
+              .append(HEX_DIGITS[(c >> 12) & 0xF])
+              .append(HEX_DIGITS[(c >> 8) & 0xF])
+              .append(HEX_DIGITS[(c >> 4) & 0xF])
+              .append(HEX_DIGITS[c & 0xF]);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.i18n;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Immutable snapshot of all labels (WebGoat labels and lesson labels merged) for one locale. The
+ * catalog is compiled once, lookups are served from a flat map and the front-end receives the
+ * pre-serialized JSON together with an ETag.
+ */
+@Getter
+public class MessageCatalog {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final Locale locale;
+  private final Map<String, String> messages;
+
+  /** Shared between all requests, must not be modified. */
+  private final byte[] json;
+
+  private final String etag;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<String, MessageFormat> messageFormats = new ConcurrentHashMap<>();
+
+  MessageCatalog(Locale locale, Map<String, String> messages) {
+    this.locale = locale;
+    this.messages = Map.copyOf(messages);
+    try {
+      // sorted so the ETag stays the same between restarts
+      this.json = MAPPER.writeValueAsBytes(new TreeMap<>(messages));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to serialize labels for locale " + locale, e);
+    }
+    this.etag = "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+  }
+
+  public String getMessage(String code) {
+    return messages.get(code);
+  }
+
+  /**
+   * Returns the parsed message format for the given code, parsing happens only once per code. A
+   * MessageFormat is not thread safe, callers need to synchronize on the returned instance while
+   * formatting (which AbstractMessageSource already does).
+   *
+   * @return the message format or null if the code is unknown
+   */
+  public MessageFormat getMessageFormat(String code) {
+    var message = messages.get(code);
+    if (message == null) {
+      return null;
+    }
+    return messageFormats.computeIfAbsent(code, c -> new MessageFormat(message, locale));
+  }
+}
@@ -4,6 +4,7 @@
  */
 package org.owasp.webgoat.container.i18n;
 
+import java.util.Locale;
 import java.util.Properties;
 import lombok.AllArgsConstructor;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
@@ -23,7 +24,16 @@ public class Messages extends ReloadableResourceBundleMessageSource {
    * @return all messages
    */
   public Properties getMessages() {
-    return getMergedProperties(language.getLocale()).getProperties();
+    return getMessages(language.getLocale());
+  }
+
+  /**
+   * Gets all messages for the given Locale.
+   *
+   * @return all messages
+   */
+  public Properties getMessages(Locale locale) {
+    return getMergedProperties(locale).getProperties();
   }
 
   public String getMessage(String code, Object... args) {
@@ -5,48 +5,142 @@
 package org.owasp.webgoat.container.i18n;
 
 import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 import org.springframework.core.io.support.ResourcePatternResolver;
 
 /**
  * Message resource bundle for plugins.
+ *
+ * <p>The lesson label files are located once during construction. After startup all labels are
+ * compiled into a {@link MessageCatalog} per supported locale, message lookups are served from that
+ * catalog.
  */
-public class PluginMessages extends ReloadableResourceBundleMessageSource {
+public class PluginMessages extends ReloadableResourceBundleMessageSource
+    implements SmartInitializingSingleton {
   private static final String PROPERTIES_SUFFIX = ".properties";
+  private static final String LESSON_LABELS = "WebGoatLabels";
 
+  private final Messages messages;
   private final Language language;
-  private final ResourcePatternResolver resourcePatternResolver;
+
+  /** Lesson label files grouped by their locale suffix, for example "" or "_de" */
+  private final Map<String, List<String>> lessonLabelsBySuffix = new HashMap<>();
+
+  private final Set<Locale> availableLocales = new HashSet<>();
+  private final Map<Locale, MessageCatalog> catalogs = new ConcurrentHashMap<>();
 
   public PluginMessages(
       Messages messages, Language language, ResourcePatternResolver resourcePatternResolver) {
+    this.messages = messages;
     this.language = language;
     this.setParentMessageSource(messages);
-    this.setBasename("WebGoatLabels");
-    this.resourcePatternResolver = resourcePatternResolver;
+    this.setBasename(LESSON_LABELS);
+    scanLabelFiles(resourcePatternResolver);
   }
 
-  @Override
-  protected PropertiesHolder refreshProperties(String filename, PropertiesHolder propHolder) {
-    Properties properties = new Properties();
-    long lastModified = System.currentTimeMillis();
-
+  private void scanLabelFiles(ResourcePatternResolver resourcePatternResolver) {
     try {
-      var resources =
+      for (var resource :
           resourcePatternResolver.getResources(
-              "classpath:/lessons/**/i18n" + "/WebGoatLabels" + PROPERTIES_SUFFIX);
-      for (var resource : resources) {
+              "classpath:/lessons/**/i18n/" + LESSON_LABELS + "*" + PROPERTIES_SUFFIX)) {
+        var fileName = resource.getFilename();
+        var suffix =
+            fileName.substring(
+                LESSON_LABELS.length(), fileName.length() - PROPERTIES_SUFFIX.length());
         String sourcePath = resource.getURI().toString().replace(PROPERTIES_SUFFIX, "");
-        PropertiesHolder holder = super.refreshProperties(sourcePath, propHolder);
-        properties.putAll(holder.getProperties());
+        lessonLabelsBySuffix.computeIfAbsent(suffix, s -> new ArrayList<>()).add(sourcePath);
+        addAvailableLocale(suffix);
+      }
+      for (var resource :
+          resourcePatternResolver.getResources("classpath:i18n/*" + PROPERTIES_SUFFIX)) {
+        var fileName = resource.getFilename().replace(PROPERTIES_SUFFIX, "");
+        if (fileName.contains("_")) {
+          addAvailableLocale(fileName.substring(fileName.indexOf('_')));
+        }
       }
     } catch (IOException e) {
       logger.error("Unable to read plugin message", e);
     }
+  }
+
+  private void addAvailableLocale(String suffix) {
+    if (!suffix.isEmpty()) {
+      availableLocales.add(Locale.forLanguageTag(suffix.substring(1).replace('_', '-')));
+    }
+  }
+
+  @Override
+  protected PropertiesHolder refreshProperties(String filename, PropertiesHolder propHolder) {
+    Properties properties = new Properties();
+    long lastModified = System.currentTimeMillis();
+
+    var suffix = filename.substring(filename.lastIndexOf(LESSON_LABELS) + LESSON_LABELS.length());
+    for (var sourcePath : lessonLabelsBySuffix.getOrDefault(suffix, List.of())) {
+      PropertiesHolder holder = super.refreshProperties(sourcePath, propHolder);
+      properties.putAll(holder.getProperties());
+    }
 
     return new PropertiesHolder(properties, lastModified);
   }
 
+  /** Compile the catalogs of all locales for which we have labels before the first request. */
+  @Override
+  public void afterSingletonsInstantiated() {
+    getCatalog(Locale.ROOT);
+    availableLocales.forEach(this::getCatalog);
+  }
+
+  public MessageCatalog getCatalog() {
+    return getCatalog(language.getLocale());
+  }
+
+  public MessageCatalog getCatalog(Locale locale) {
+    return catalogs.computeIfAbsent(getSupportedLocale(locale), this::compileCatalog);
+  }
+
+  /**
+   * Maps the requested locale onto the most specific locale for which label files exist, this keeps
+   * the number of catalogs bounded no matter which locales the browsers send.
+   */
+  public Locale getSupportedLocale(Locale locale) {
+    var languageAndCountry = Locale.of(locale.getLanguage(), locale.getCountry());
+    if (availableLocales.contains(languageAndCountry)) {
+      return languageAndCountry;
+    }
+    var languageOnly = Locale.of(locale.getLanguage());
+    return availableLocales.contains(languageOnly) ? languageOnly : Locale.ROOT;
+  }
+
+  private MessageCatalog compileCatalog(Locale locale) {
+    var allMessages = new HashMap<String, String>();
+    messages.getMessages(locale).forEach((k, v) -> allMessages.put((String) k, (String) v));
+    getMergedProperties(locale)
+        .getProperties()
+        .forEach((k, v) -> allMessages.put((String) k, (String) v));
+    return new MessageCatalog(locale, allMessages);
+  }
+
+  @Override
+  protected String resolveCodeWithoutArguments(String code, Locale locale) {
+    return getCatalog(locale).getMessage(code);
+  }
+
+  @Override
+  protected MessageFormat resolveCode(String code, Locale locale) {
+    return getCatalog(locale).getMessageFormat(code);
+  }
+
   public Properties getMessages() {
     return getMergedProperties(language.getLocale()).getProperties();
   }
@@ -0,0 +1,20 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import java.util.List;
+import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
+
+/**
+ * An entry of the assignment registry generated during the build, see {@code
+ * AssignmentRegistryProcessor}.
+ *
+ * @param path the path of the assignment without the context path
+ */
+record AssignmentRegistration(
+    Class<? extends AssignmentEndpoint> endpoint,
+    Class<? extends Lesson> lesson,
+    String path,
+    List<String> hints) {}
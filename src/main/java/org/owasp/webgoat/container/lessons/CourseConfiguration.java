@@ -4,171 +4,105 @@
  */
 package org.owasp.webgoat.container.lessons;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
-import java.util.*;
-import org.apache.commons.lang3.ArrayUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
-import org.owasp.webgoat.container.assignments.AssignmentHints;
-import org.owasp.webgoat.container.assignments.AttackResult;
 import org.owasp.webgoat.container.session.Course;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.Assert;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.util.ClassUtils;
 
+/**
+ * Attaches every assignment endpoint to its lesson. The lesson, path and hints of an assignment are
+ * determined during the build by the {@code AssignmentRegistryProcessor}, during startup the
+ * registry is checked against the assignment endpoints and lessons which are actually present.
+ * Without the generated registry (an IDE which does not run the processor) the registry is created
+ * with reflection instead. Only the types of the assignment endpoints are used, so endpoints of
+ * lazy lesson modules (see {@link LessonModules}) are not created here.
+ */
 @Configuration
+@Slf4j
 public class CourseConfiguration {
+  private static final String GENERATED_REGISTRY =
+      "org.owasp.webgoat.container.lessons.GeneratedAssignmentRegistry";
+
   private final List<Lesson> lessons;
-  private final List<AssignmentEndpoint> assignments;
+  private final ListableBeanFactory beanFactory;
   private final String contextPath;
 
   public CourseConfiguration(
       List<Lesson> lessons,
-      List<AssignmentEndpoint> assignments,
+      ListableBeanFactory beanFactory,
       @Value("${server.servlet.context-path}") String contextPath) {
     this.lessons = lessons;
-    this.assignments = assignments;
+    this.beanFactory = beanFactory;
     this.contextPath = contextPath.equals("/") ? "" : contextPath;
   }
 
-  private void attachToLessonInParentPackage(
-      AssignmentEndpoint assignmentEndpoint, String packageName) {
-    if (packageName.equals("org.owasp.webgoat.lessons")) {
-      throw new IllegalStateException(
-          "No lesson found for assignment: '%s'"
-              .formatted(assignmentEndpoint.getClass().getSimpleName()));
-    }
-    lessons.stream()
-        .filter(l -> l.getClass().getPackageName().equals(packageName))
-        .findFirst()
-        .ifPresentOrElse(
-            l -> l.addAssignment(toAssignment(assignmentEndpoint)),
-            () ->
-                attachToLessonInParentPackage(
-                    assignmentEndpoint, packageName.substring(0, packageName.lastIndexOf("."))));
-  }
-
-  /**
-   * For each assignment endpoint, find the lesson in the same package or if not found, find the
-   * lesson in the parent package
-   */
-  private void attachToLesson(AssignmentEndpoint assignmentEndpoint) {
-    lessons.stream()
-        .filter(
-            l ->
-                l.getClass()
-                    .getPackageName()
-                    .equals(assignmentEndpoint.getClass().getPackageName()))
-        .findFirst()
-        .ifPresentOrElse(
-            l -> l.addAssignment(toAssignment(assignmentEndpoint)),
-            () -> {
-              var assignmentPackageName = assignmentEndpoint.getClass().getPackageName();
-              attachToLessonInParentPackage(
-                  assignmentEndpoint,
-                  assignmentPackageName.substring(0, assignmentPackageName.lastIndexOf(".")));
-            });
-  }
-
-  private Assignment toAssignment(AssignmentEndpoint endpoint) {
-    return new Assignment(
-        endpoint.getClass().getSimpleName(),
-        getPath(endpoint.getClass()),
-        getHints(endpoint.getClass()));
-  }
-
   @Bean
   public Course course() {
-    assignments.forEach(this::attachToLesson);
-
-    // Check if all assignments are attached to a lesson
-    var assignmentsAttachedToLessons =
-        lessons.stream().mapToInt(l -> l.getAssignments().size()).sum();
-    Assert.isTrue(
-        assignmentsAttachedToLessons == assignments.size(),
-        "Not all assignments are attached to a lesson, please check the configuration. The"
-            + " following assignments are not attached to any lesson: "
-            + findDiff());
+    var assignments =
+        Arrays.stream(beanFactory.getBeanNamesForType(AssignmentEndpoint.class, true, false))
+            .<Class<?>>map(beanName -> ClassUtils.getUserClass(beanFactory.getType(beanName)))
+            .toList();
+    attachToLessons(assignments, registry(assignments));
     return new Course(lessons);
   }
 
-  private List<String> findDiff() {
-    var matchedToLessons =
-        lessons.stream().flatMap(l -> l.getAssignments().stream()).map(Assignment::getName).toList();
-    var allAssignments = assignments.stream().map(a -> a.getClass().getSimpleName()).toList();
-
-    var diff = new ArrayList<>(allAssignments);
-    diff.removeAll(matchedToLessons);
-    return diff;
-  }
-
-  private String getPath(Class<? extends AssignmentEndpoint> e) {
-    for (Method m : e.getMethods()) {
-      if (methodReturnTypeIsOfTypeAttackResult(m)) {
-        var mapping = getMapping(m);
-        if (mapping != null) {
-          return contextPath + mapping;
-        }
-      }
-    }
-    throw new IllegalStateException(
-        "Assignment endpoint: "
-            + e
-            + " has no mapping like @GetMapping/@PostMapping etc,with return type 'AttackResult' or"
-            + " 'ResponseEntity<AttackResult>' please consider adding one");
-  }
-
-  private boolean methodReturnTypeIsOfTypeAttackResult(Method m) {
-    if (m.getReturnType() == AttackResult.class) {
-      return true;
-    }
-    var genericType = m.getGenericReturnType();
-    if (genericType instanceof ParameterizedType) {
-      return ((ParameterizedType) m.getGenericReturnType()).getActualTypeArguments()[0]
-          == AttackResult.class;
+  @SuppressWarnings("unchecked")
+  List<AssignmentRegistration> registry(List<Class<?>> assignments) {
+    try {
+      var registry = ClassUtils.forName(GENERATED_REGISTRY, getClass().getClassLoader());
+      return (List<AssignmentRegistration>) registry.getDeclaredField("ASSIGNMENTS").get(null);
+    } catch (ClassNotFoundException e) {
+      log.warn(
+          "No generated assignment registry found, the annotation processor did not run. Using"
+              + " reflection instead");
+      return ReflectiveAssignmentRegistry.create(
+          assignments, lessons.stream().<Class<? extends Lesson>>map(l -> l.getClass()).toList());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to read the assignment registry", e);
     }
-    return false;
   }
 
-  private String getMapping(Method m) {
-    String[] paths = null;
-    // Find the path, either it is @GetMapping("/attack") of GetMapping(path = "/attack") both are
-    // valid, we need to consider both
-    if (m.getAnnotation(RequestMapping.class) != null) {
-      paths =
-          ArrayUtils.addAll(
-              m.getAnnotation(RequestMapping.class).value(),
-              m.getAnnotation(RequestMapping.class).path());
-    } else if (m.getAnnotation(PostMapping.class) != null) {
-      paths =
-          ArrayUtils.addAll(
-              m.getAnnotation(PostMapping.class).value(),
-              m.getAnnotation(PostMapping.class).path());
-    } else if (m.getAnnotation(GetMapping.class) != null) {
-      paths =
-          ArrayUtils.addAll(
-              m.getAnnotation(GetMapping.class).value(), m.getAnnotation(GetMapping.class).path());
-    } else if (m.getAnnotation(PutMapping.class) != null) {
-      paths =
-          ArrayUtils.addAll(
-              m.getAnnotation(PutMapping.class).value(), m.getAnnotation(PutMapping.class).path());
-    }
-    if (paths == null) {
-      return null;
-    } else {
-      return Arrays.stream(paths).filter(path -> !"".equals(path)).findFirst().orElse("");
-    }
-  }
+  void attachToLessons(List<Class<?>> assignments, List<AssignmentRegistration> registry) {
+    var registrations =
+        registry.stream()
+            .collect(Collectors.toMap(AssignmentRegistration::endpoint, Function.identity()));
+    var lessonsByClass =
+        lessons.stream()
+            .collect(Collectors.toMap(l -> ClassUtils.getUserClass(l), Function.identity()));
 
-  private List<String> getHints(Class<? extends AssignmentEndpoint> e) {
-    if (e.isAnnotationPresent(AssignmentHints.class)) {
-      return List.of(e.getAnnotationsByType(AssignmentHints.class)[0].value());
+    var notRegistered = new ArrayList<String>();
+    for (var endpointClass : assignments) {
+      var registration = registrations.get(endpointClass);
+      if (registration == null) {
+        notRegistered.add(endpointClass.getSimpleName());
+        continue;
+      }
+      var lesson = lessonsByClass.get(registration.lesson());
+      if (lesson == null) {
+        throw new IllegalStateException(
+            "No lesson found for assignment: '%s', expected lesson '%s'"
+                .formatted(endpointClass.getSimpleName(), registration.lesson().getSimpleName()));
+      }
+      lesson.addAssignment(
+          new Assignment(
+              endpointClass.getSimpleName(),
+              contextPath + registration.path(),
+              registration.hints()));
     }
-    return Collections.emptyList();
+    Assert.isTrue(
+        notRegistered.isEmpty(),
+        "Not all assignments are attached to a lesson, please rebuild WebGoat so the assignment"
+            + " registry is up to date. The following assignments are not attached to any lesson: "
+            + notRegistered);
   }
 }
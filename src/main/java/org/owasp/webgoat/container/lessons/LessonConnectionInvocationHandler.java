@@ -8,15 +8,29 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.util.Set;
 import org.owasp.webgoat.container.users.WebGoatUser;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 /**
  * Handler which sets the correct schema for the currently bounded user. This way users are not
  * seeing each other data, and we can reset data for just one particular user.
+ *
+ * <p>The schema is only set before statements are created, HSQLDB executes every statement while
+ * holding the lock of the session (which pins a virtual thread to its carrier), so calls like
+ * close() or setAutoCommit() should not execute an extra statement.
  */
 public class LessonConnectionInvocationHandler implements InvocationHandler {
 
+  private static final Set<String> USING_SCHEMA =
+      Set.of(
+          "createStatement",
+          "prepareStatement",
+          "prepareCall",
+          "nativeSQL",
+          "getMetaData",
+          "getSchema");
+
   private final Connection targetConnection;
 
   public LessonConnectionInvocationHandler(Connection targetConnection) {
@@ -26,7 +40,9 @@ public class LessonConnectionInvocationHandler implements InvocationHandler {
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     var authentication = SecurityContextHolder.getContext().getAuthentication();
-    if (authentication != null && authentication.getPrincipal() instanceof WebGoatUser user) {
+    if (USING_SCHEMA.contains(method.getName())
+        && authentication != null
+        && authentication.getPrincipal() instanceof WebGoatUser user) {
       try (var statement = targetConnection.createStatement()) {
         statement.execute("SET SCHEMA \"" + user.getUsername() + "\"");
       }
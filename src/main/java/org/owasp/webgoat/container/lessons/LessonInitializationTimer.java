@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Measures how long it takes to create the beans of each lesson (see {@link LessonModules}). The
+ * time spent in a bean of another lesson which is created as dependency is counted for that other
+ * lesson. The totals are logged once WebGoat is started, lessons which are initialized later on
+ * (with {@code webgoat.lesson-modules=true}) are logged when they are first used.
+ */
+@Component
+@Slf4j
+public class LessonInitializationTimer
+    implements InstantiationAwareBeanPostProcessor,
+        BeanFactoryAware,
+        ApplicationListener<ApplicationReadyEvent> {
+
+  private static class Creation {
+    private final String beanName;
+    private final String lesson;
+    private final long start = System.nanoTime();
+    private long nested;
+
+    private Creation(String beanName, String lesson) {
+      this.beanName = beanName;
+      this.lesson = lesson;
+    }
+  }
+
+  private final ThreadLocal<Deque<Creation>> creations = ThreadLocal.withInitial(ArrayDeque::new);
+  private final Map<String, LongAdder> nanosByLesson = new ConcurrentHashMap<>();
+  private ConfigurableListableBeanFactory beanFactory;
+  private volatile boolean started;
+
+  @Override
+  public void setBeanFactory(BeanFactory beanFactory) {
+    this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+  }
+
+  @Override
+  public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+    var lesson = lessonOf(beanName);
+    if (lesson != null) {
+      creations.get().push(new Creation(beanName, lesson));
+    }
+    return null;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    var stack = creations.get();
+    if (stack.isEmpty() || !stack.peek().beanName.equals(beanName)) {
+      return bean;
+    }
+    var creation = stack.pop();
+    var took = System.nanoTime() - creation.start;
+    nanosByLesson
+        .computeIfAbsent(creation.lesson, l -> new LongAdder())
+        .add(took - creation.nested);
+    if (!stack.isEmpty()) {
+      stack.peek().nested += took;
+    } else if (started) {
+      log.info(
+          "Initialized lesson {} on first use in {} ms",
+          creation.lesson,
+          Duration.ofNanos(took).toMillis());
+    }
+    return bean;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    started = true;
+    log.info(
+        "Lesson initialization during startup: {}",
+        getInitializationTimes().entrySet().stream()
+            .sorted(Map.Entry.<String, Duration>comparingByValue(Comparator.reverseOrder()))
+            .map(e -> "%s %d ms".formatted(e.getKey(), e.getValue().toMillis()))
+            .collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * @return the total time spent creating the beans of each lesson so far, by lesson class name
+   */
+  public Map<String, Duration> getInitializationTimes() {
+    return nanosByLesson.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, e -> Duration.ofNanos(e.getValue().sum())));
+  }
+
+  private String lessonOf(String beanName) {
+    if (beanFactory == null || !beanFactory.containsBeanDefinition(beanName)) {
+      return null;
+    }
+    return (String)
+        beanFactory.getMergedBeanDefinition(beanName).getAttribute(LessonModules.LESSON_ATTRIBUTE);
+  }
+}
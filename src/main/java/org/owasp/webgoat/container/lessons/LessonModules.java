@@ -0,0 +1,156 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Groups the beans below the lessons package by lesson, every bean belongs to the lesson in the
+ * same package or the nearest parent package (same lookup as the {@code
+ * AssignmentRegistryProcessor}). The lesson is stored as attribute {@link
+ * #LESSON_ATTRIBUTE} of the bean definition, see {@link LessonInitializationTimer}.
+ *
+ * <p>With {@code webgoat.lesson-modules=true} every lesson becomes a module:
+ *
+ * <ul>
+ *   <li>lessons excluded with {@code exclude.categories} or {@code exclude.lessons} are removed
+ *       together with their beans, so they are never instantiated
+ *   <li>the beans of the other lessons are created on first use, for example the first request to
+ *       one of the endpoints of the lesson. The lessons themselves and the beans which reset lesson
+ *       data ({@link Initializable}) are still created during startup.
+ * </ul>
+ */
+@Component
+@Slf4j
+public class LessonModules
+    implements BeanDefinitionRegistryPostProcessor, EnvironmentAware, BeanClassLoaderAware {
+
+  public static final String LESSON_ATTRIBUTE = LessonModules.class.getName() + ".lesson";
+  static final String LESSON_MODULES = "webgoat.lesson-modules";
+
+  private static final String LESSONS_PACKAGE = "org.owasp.webgoat.lessons";
+
+  private Environment environment;
+  private ClassLoader classLoader;
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    this.environment = environment;
+  }
+
+  @Override
+  public void setBeanClassLoader(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  @Override
+  public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+    var beanClasses = new HashMap<String, Class<?>>();
+    var lessonsByPackage = new HashMap<String, Class<?>>();
+    for (var beanName : registry.getBeanDefinitionNames()) {
+      var className = registry.getBeanDefinition(beanName).getBeanClassName();
+      if (className != null && className.startsWith(LESSONS_PACKAGE + ".")) {
+        var beanClass = ClassUtils.resolveClassName(className, classLoader);
+        beanClasses.put(beanName, beanClass);
+        if (Lesson.class.isAssignableFrom(beanClass)) {
+          lessonsByPackage.put(beanClass.getPackageName(), beanClass);
+        }
+      }
+    }
+
+    var modules = environment.getProperty(LESSON_MODULES, Boolean.class, false);
+    var excluded = modules ? findExcludedLessons(lessonsByPackage.values()) : Set.<Class<?>>of();
+    var lazy = new ArrayList<String>();
+    beanClasses.forEach(
+        (beanName, beanClass) -> {
+          var lesson = findLesson(beanClass, lessonsByPackage);
+          if (lesson == null) {
+            return;
+          }
+          var beanDefinition = registry.getBeanDefinition(beanName);
+          beanDefinition.setAttribute(LESSON_ATTRIBUTE, lesson.getSimpleName());
+          if (excluded.contains(lesson)
+              && !isSharedWithOtherLessons(beanClass, beanDefinition, excluded, lessonsByPackage)) {
+            registry.removeBeanDefinition(beanName);
+          } else if (modules
+              && !Lesson.class.isAssignableFrom(beanClass)
+              && !Initializable.class.isAssignableFrom(beanClass)) {
+            beanDefinition.setLazyInit(true);
+            lazy.add(beanName);
+          }
+        });
+    if (modules) {
+      log.info(
+          "Lesson modules enabled, excluded lessons: {}, {} lesson beans are created on first use",
+          excluded.stream().map(Class::getSimpleName).sorted().toList(),
+          lazy.size());
+    }
+  }
+
+  private Set<Class<?>> findExcludedLessons(Iterable<Class<?>> lessons) {
+    var excludedCategories = List.of(environment.getProperty("exclude.categories", "").split(","));
+    var excludedLessons = List.of(environment.getProperty("exclude.lessons", "").split(","));
+    var excluded = new HashSet<Class<?>>();
+    for (var lessonClass : lessons) {
+      var lesson = (Lesson) BeanUtils.instantiateClass(lessonClass);
+      if (excludedCategories.contains(lesson.getCategory().name())
+          || excludedLessons.contains(lesson.getName().lessonName())) {
+        excluded.add(lessonClass);
+      }
+    }
+    return excluded;
+  }
+
+  /** The lesson in the same package or if not found, the lesson in the nearest parent package */
+  private static Class<?> findLesson(Class<?> beanClass, Map<String, Class<?>> lessonsByPackage) {
+    var packageName = beanClass.getPackageName();
+    while (packageName.startsWith(LESSONS_PACKAGE + ".")) {
+      var lesson = lessonsByPackage.get(packageName);
+      if (lesson != null) {
+        return lesson;
+      }
+      packageName = packageName.substring(0, packageName.lastIndexOf('.'));
+    }
+    return null;
+  }
+
+  /**
+   * Supporting beans of a lesson, for example the flags of the challenges, are also used by the
+   * lessons in the sub packages. Endpoints always belong to the lesson itself.
+   */
+  private static boolean isSharedWithOtherLessons(
+      Class<?> beanClass,
+      BeanDefinition beanDefinition,
+      Set<Class<?>> excluded,
+      Map<String, Class<?>> lessonsByPackage) {
+    if (AssignmentEndpoint.class.isAssignableFrom(beanClass)
+        || Lesson.class.isAssignableFrom(beanClass)
+        || (beanDefinition instanceof AnnotatedBeanDefinition annotated
+            && annotated.getMetadata().isAnnotated(Controller.class.getName()))) {
+      return false;
+    }
+    var subPackages = beanClass.getPackageName() + ".";
+    return lessonsByPackage.entrySet().stream()
+        .anyMatch(e -> e.getKey().startsWith(subPackages) && !excluded.contains(e.getValue()));
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * In-memory data of a lesson, for example the comments a user posted. Every user has its own
+ * partition which is limited in number of entries and size, see {@link Limits}. When a partition is
+ * full the oldest entries are removed. Entries expire after the time to live, partitions of users
+ * who did not use the lesson for a while are removed completely.
+ *
+ * <p>All methods are thread safe. Create a state with {@link LessonStateStore#create(String,
+ * ToLongFunction)}.
+ *
+ * @param <V> the type of the entries
+ */
+public class LessonState<V> {
+
+  /**
+   * @param maxEntriesPerUser the maximum number of entries of a user
+   * @param maxBytesPerUser the maximum (estimated) size of the entries of a user
+   * @param ttl entries older than this are removed
+   * @param idleTimeout all entries of a user are removed if the user did not use them for this time
+   */
+  public record Limits(
+      int maxEntriesPerUser, long maxBytesPerUser, Duration ttl, Duration idleTimeout) {
+
+    public Limits withMaxEntriesPerUser(int maxEntriesPerUser) {
+      return new Limits(maxEntriesPerUser, maxBytesPerUser, ttl, idleTimeout);
+    }
+
+    public Limits withTtl(Duration ttl) {
+      return new Limits(maxEntriesPerUser, maxBytesPerUser, ttl, idleTimeout);
+    }
+  }
+
+  private record Entry<V>(V value, long size, long createdAt) {}
+
+  private static class Partition<V> {
+    private final Deque<Entry<V>> entries = new ArrayDeque<>();
+    private long bytes;
+    private long lastAccess;
+  }
+
+  private final String name;
+  private final ToLongFunction<? super V> sizeOf;
+  private final Limits limits;
+  private final LongSupplier clock;
+  private final Map<String, Partition<V>> partitions = new ConcurrentHashMap<>();
+  private final AtomicLong entries = new AtomicLong();
+  private final AtomicLong bytes = new AtomicLong();
+  private final Counter evictedByCapacity;
+  private final Counter evictedByTtl;
+  private final Counter evictedByIdle;
+
+  LessonState(
+      String name,
+      ToLongFunction<? super V> sizeOf,
+      Limits limits,
+      MeterRegistry meterRegistry,
+      LongSupplier clock) {
+    this.name = name;
+    this.sizeOf = sizeOf;
+    this.limits = limits;
+    this.clock = clock;
+    var tags = Tags.of("state", name);
+    meterRegistry.gauge("webgoat.lesson.state.users", tags, partitions, Map::size);
+    meterRegistry.gauge("webgoat.lesson.state.entries", tags, entries);
+    meterRegistry.gauge("webgoat.lesson.state.bytes", tags, bytes);
+    this.evictedByCapacity = evicted(meterRegistry, name, "capacity");
+    this.evictedByTtl = evicted(meterRegistry, name, "ttl");
+    this.evictedByIdle = evicted(meterRegistry, name, "idle");
+  }
+
+  private static Counter evicted(MeterRegistry meterRegistry, String name, String reason) {
+    return meterRegistry.counter("webgoat.lesson.state.evicted", "state", name, "reason", reason);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /** Adds the value to the entries of the user, the oldest entries are removed if necessary */
+  public void add(String user, V value) {
+    put(user, value, false);
+  }
+
+  /** Replaces all entries of the user with the value */
+  public void set(String user, V value) {
+    put(user, value, true);
+  }
+
+  private void put(String user, V value, boolean replace) {
+    var entry = new Entry<V>(value, sizeOf.applyAsLong(value), clock.getAsLong());
+    partitions.compute(
+        user,
+        (key, partition) -> {
+          if (partition == null) {
+            partition = new Partition<>();
+          }
+          if (replace) {
+            while (!partition.entries.isEmpty()) {
+              account(partition, partition.entries.removeFirst(), -1);
+            }
+          }
+          removeExpired(partition, entry.createdAt());
+          partition.entries.addLast(entry);
+          account(partition, entry, 1);
+          while (partition.entries.size() > 1
+              && (partition.entries.size() > limits.maxEntriesPerUser()
+                  || partition.bytes > limits.maxBytesPerUser())) {
+            account(partition, partition.entries.removeFirst(), -1);
+            evictedByCapacity.increment();
+          }
+          partition.lastAccess = entry.createdAt();
+          return partition;
+        });
+  }
+
+  /**
+   * @return the entries of the user, the oldest first
+   */
+  public List<V> values(String user) {
+    var values = new ArrayList<V>();
+    access(user, partition -> partition.entries.forEach(entry -> values.add(entry.value())));
+    return values;
+  }
+
+  /**
+   * @return the entry of the user which was added last
+   */
+  public Optional<V> latest(String user) {
+    var values = values(user);
+    return values.isEmpty() ? Optional.empty() : Optional.of(values.getLast());
+  }
+
+  public boolean contains(String user, V value) {
+    return values(user).contains(value);
+  }
+
+  /**
+   * @return true if the value was one of the entries of the user
+   */
+  public boolean remove(String user, V value) {
+    var removed = new boolean[1];
+    access(
+        user,
+        partition -> {
+          var iterator = partition.entries.iterator();
+          while (iterator.hasNext() && !removed[0]) {
+            var entry = iterator.next();
+            if (entry.value().equals(value)) {
+              iterator.remove();
+              account(partition, entry, -1);
+              removed[0] = true;
+            }
+          }
+        });
+    return removed[0];
+  }
+
+  /** Removes all entries of the user */
+  public void clear(String user) {
+    partitions.computeIfPresent(
+        user,
+        (key, partition) -> {
+          partition.entries.forEach(entry -> account(partition, entry, -1));
+          return null;
+        });
+  }
+
+  /**
+   * @return the number of entries of all users
+   */
+  public long entries() {
+    return entries.get();
+  }
+
+  /**
+   * @return the estimated size of the entries of all users
+   */
+  public long bytes() {
+    return bytes.get();
+  }
+
+  /** Removes the expired entries and the partitions of idle users */
+  void evictExpired() {
+    var now = clock.getAsLong();
+    partitions
+        .keySet()
+        .forEach(
+            user ->
+                partitions.computeIfPresent(
+                    user,
+                    (key, partition) -> {
+                      if (now - partition.lastAccess > limits.idleTimeout().toNanos()) {
+                        partition.entries.forEach(entry -> account(partition, entry, -1));
+                        evictedByIdle.increment(partition.entries.size());
+                        return null;
+                      }
+                      removeExpired(partition, now);
+                      return partition.entries.isEmpty() ? null : partition;
+                    }));
+  }
+
+  private void access(String user, Consumer<Partition<V>> action) {
+    partitions.computeIfPresent(
+        user,
+        (key, partition) -> {
+          var now = clock.getAsLong();
+          removeExpired(partition, now);
+          action.accept(partition);
+          partition.lastAccess = now;
+          return partition.entries.isEmpty() ? null : partition;
+        });
+  }
+
+  private void removeExpired(Partition<V> partition, long now) {
+    while (!partition.entries.isEmpty()
+        && now - partition.entries.getFirst().createdAt() > limits.ttl().toNanos()) {
+      account(partition, partition.entries.removeFirst(), -1);
+      evictedByTtl.increment();
+    }
+  }
+
+  private void account(Partition<V> partition, Entry<V> entry, int sign) {
+    partition.bytes += sign * entry.size();
+    entries.addAndGet(sign);
+    bytes.addAndGet(sign * entry.size());
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Creates the {@link LessonState} of the lessons and removes the expired entries in the background.
+ * Lessons should keep the data of a user here instead of in a map, so the memory used by a large
+ * class stays bounded.
+ *
+ * <p>The default limits are set with {@code webgoat.lesson-state.*}. The metrics {@code
+ * webgoat.lesson.state.users}, {@code .entries}, {@code .bytes} and {@code .evicted} are tagged
+ * with the name of the state.
+ */
+@Component
+public class LessonStateStore {
+
+  private final MeterRegistry meterRegistry;
+  private final LessonState.Limits defaultLimits;
+  private final Duration sweepInterval;
+  private final LongSupplier clock;
+  private final List<LessonState<?>> states = new CopyOnWriteArrayList<>();
+  private ScheduledExecutorService sweeper;
+
+  @Autowired
+  public LessonStateStore(
+      MeterRegistry meterRegistry,
+      @Value("${webgoat.lesson-state.max-entries-per-user:100}") int maxEntriesPerUser,
+      @Value("${webgoat.lesson-state.max-size-per-user:256KB}") DataSize maxSizePerUser,
+      @Value("${webgoat.lesson-state.ttl:24h}") Duration ttl,
+      @Value("${webgoat.lesson-state.idle-timeout:4h}") Duration idleTimeout,
+      @Value("${webgoat.lesson-state.sweep-interval:1m}") Duration sweepInterval) {
+    this(
+        meterRegistry,
+        new LessonState.Limits(maxEntriesPerUser, maxSizePerUser.toBytes(), ttl, idleTimeout),
+        sweepInterval,
+        System::nanoTime);
+  }
+
+  LessonStateStore(
+      MeterRegistry meterRegistry,
+      LessonState.Limits defaultLimits,
+      Duration sweepInterval,
+      LongSupplier clock) {
+    this.meterRegistry = meterRegistry;
+    this.defaultLimits = defaultLimits;
+    this.sweepInterval = sweepInterval;
+    this.clock = clock;
+  }
+
+  @PostConstruct
+  void start() {
+    sweeper =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("lesson-state-sweeper").daemon().factory());
+    sweeper.scheduleWithFixedDelay(
+        this::evictExpired,
+        sweepInterval.toMillis(),
+        sweepInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  void stop() {
+    sweeper.shutdownNow();
+  }
+
+  public LessonState.Limits getDefaultLimits() {
+    return defaultLimits;
+  }
+
+  /**
+   * @param name the name of the state in the metrics, for example {@code XSS.comments}
+   * @param sizeOf estimates the memory used by an entry, see {@link #sizeOf(String...)}
+   */
+  public <V> LessonState<V> create(String name, ToLongFunction<? super V> sizeOf) {
+    return create(name, sizeOf, defaultLimits);
+  }
+
+  public <V> LessonState<V> create(
+      String name, ToLongFunction<? super V> sizeOf, LessonState.Limits limits) {
+    var state = new LessonState<V>(name, sizeOf, limits, meterRegistry, clock);
+    states.add(state);
+    return state;
+  }
+
+  void evictExpired() {
+    states.forEach(LessonState::evictExpired);
+  }
+
+  /**
+   * @return a rough estimate of the memory used by an object holding the strings
+   */
+  public static long sizeOf(String... strings) {
+    long size = 16;
+    for (var string : strings) {
+      size += string == null ? 4 : 40 + string.length();
+    }
+    return size;
+  }
+}
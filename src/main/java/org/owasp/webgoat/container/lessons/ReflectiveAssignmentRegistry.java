@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
+import org.owasp.webgoat.container.assignments.AssignmentHints;
+import org.owasp.webgoat.container.assignments.AttackResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Creates the assignment registry with reflection, with the same rules as the {@code
+ * AssignmentRegistryProcessor}. Only used when the generated registry is missing, for example when
+ * WebGoat is compiled by an IDE which does not run the annotation processor.
+ */
+final class ReflectiveAssignmentRegistry {
+
+  private static final String LESSONS_PACKAGE = "org.owasp.webgoat.lessons";
+
+  private ReflectiveAssignmentRegistry() {}
+
+  @SuppressWarnings("unchecked")
+  static List<AssignmentRegistration> create(
+      List<Class<?>> assignments, List<Class<? extends Lesson>> lessons) {
+    return assignments.stream()
+        .map(
+            endpoint ->
+                new AssignmentRegistration(
+                    (Class<? extends AssignmentEndpoint>) endpoint,
+                    findLesson(endpoint, lessons),
+                    findPath(endpoint),
+                    findHints(endpoint)))
+        .toList();
+  }
+
+  /** The lesson in the same package or if not found, the lesson in the nearest parent package */
+  private static Class<? extends Lesson> findLesson(
+      Class<?> endpoint, List<Class<? extends Lesson>> lessons) {
+    var packageName = endpoint.getPackageName();
+    while (packageName.startsWith(LESSONS_PACKAGE + ".")) {
+      var currentPackage = packageName;
+      var lesson =
+          lessons.stream().filter(l -> l.getPackageName().equals(currentPackage)).findFirst();
+      if (lesson.isPresent()) {
+        return lesson.get();
+      }
+      packageName = packageName.substring(0, packageName.lastIndexOf('.'));
+    }
+    throw new IllegalStateException(
+        "No lesson found for assignment: '%s'".formatted(endpoint.getSimpleName()));
+  }
+
+  /** The shortest path of the public mappings returning an AttackResult, see the processor */
+  private static String findPath(Class<?> endpoint) {
+    return Arrays.stream(endpoint.getMethods())
+        .filter(ReflectiveAssignmentRegistry::returnsAttackResult)
+        .map(ReflectiveAssignmentRegistry::findMapping)
+        .flatMap(Optional::stream)
+        .min(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    "Assignment endpoint: "
+                        + endpoint
+                        + " has no mapping like @GetMapping/@PostMapping etc,with return type"
+                        + " 'AttackResult' or 'ResponseEntity<AttackResult>' please consider"
+                        + " adding one"));
+  }
+
+  private static boolean returnsAttackResult(Method m) {
+    if (m.getReturnType() == AttackResult.class) {
+      return true;
+    }
+    return m.getGenericReturnType() instanceof ParameterizedType type
+        && type.getActualTypeArguments()[0] == AttackResult.class;
+  }
+
+  private static Optional<String> findMapping(Method m) {
+    String[] paths = null;
+    if (m.getAnnotation(RequestMapping.class) != null) {
+      paths =
+          concat(
+              m.getAnnotation(RequestMapping.class).value(),
+              m.getAnnotation(RequestMapping.class).path());
+    } else if (m.getAnnotation(PostMapping.class) != null) {
+      paths =
+          concat(
+              m.getAnnotation(PostMapping.class).value(),
+              m.getAnnotation(PostMapping.class).path());
+    } else if (m.getAnnotation(GetMapping.class) != null) {
+      paths =
+          concat(
+              m.getAnnotation(GetMapping.class).value(), m.getAnnotation(GetMapping.class).path());
+    } else if (m.getAnnotation(PutMapping.class) != null) {
+      paths =
+          concat(
+              m.getAnnotation(PutMapping.class).value(), m.getAnnotation(PutMapping.class).path());
+    }
+    if (paths == null) {
+      return Optional.empty();
+    }
+    return Optional.of(Arrays.stream(paths).filter(path -> !path.isEmpty()).findFirst().orElse(""));
+  }
+
+  private static String[] concat(String[] values, String[] paths) {
+    return Stream.concat(Arrays.stream(values), Arrays.stream(paths)).toArray(String[]::new);
+  }
+
+  private static List<String> findHints(Class<?> endpoint) {
+    var hints = endpoint.getDeclaredAnnotation(AssignmentHints.class);
+    return hints == null ? List.of() : List.of(hints.value());
+  }
+}
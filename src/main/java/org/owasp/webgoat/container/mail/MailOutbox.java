@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Delivers the mails of the lessons to WebWolf in the background, so an assignment can return as
+ * soon as its mail is queued. The queued mails are sent in batches to the mail endpoint of WebWolf
+ * ({@code /mail/batch}), a failed batch is retried with an increasing delay before it is dropped.
+ *
+ * <p>Metrics: {@code webgoat.mail.outbox.delivery} (time from queueing until delivered), {@code
+ * webgoat.mail.outbox.failed}, {@code webgoat.mail.outbox.rejected} (queue full) and {@code
+ * webgoat.mail.outbox.queued}.
+ */
+@Component
+@Slf4j
+public class MailOutbox {
+
+  private record Pending(Object mail, long queuedAt) {}
+
+  private final RestTemplate restTemplate;
+  private final String batchUrl;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final Duration retryDelay;
+  private final BlockingQueue<Pending> queue;
+  private final Timer delivery;
+  private final Counter failed;
+  private final Counter rejected;
+  private Thread worker;
+
+  public MailOutbox(
+      RestTemplate restTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${webwolf.mail.url}") String webWolfMailUrl,
+      @Value("${webgoat.mail.outbox.capacity:1000}") int capacity,
+      @Value("${webgoat.mail.outbox.batch-size:50}") int batchSize,
+      @Value("${webgoat.mail.outbox.max-attempts:5}") int maxAttempts,
+      @Value("${webgoat.mail.outbox.retry-delay:200ms}") Duration retryDelay) {
+    this.restTemplate = restTemplate;
+    this.batchUrl = webWolfMailUrl + "/batch";
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.retryDelay = retryDelay;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.delivery = meterRegistry.timer("webgoat.mail.outbox.delivery");
+    this.failed = meterRegistry.counter("webgoat.mail.outbox.failed");
+    this.rejected = meterRegistry.counter("webgoat.mail.outbox.rejected");
+    meterRegistry.gauge("webgoat.mail.outbox.queued", queue, BlockingQueue::size);
+  }
+
+  @PostConstruct
+  void start() {
+    worker = Thread.ofPlatform().name("mail-outbox").daemon().start(this::deliver);
+  }
+
+  @PreDestroy
+  void stop() {
+    worker.interrupt();
+  }
+
+  /**
+   * @param mail the mail, serialized as JSON like the {@code Email} of WebWolf
+   * @return false if the outbox is full and the mail is not sent
+   */
+  public boolean send(Object mail) {
+    if (queue.offer(new Pending(mail, System.nanoTime()))) {
+      return true;
+    }
+    rejected.increment();
+    log.warn("Mail outbox is full, dropping mail");
+    return false;
+  }
+
+  private void deliver() {
+    var batch = new ArrayList<Pending>(batchSize);
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        batch.add(queue.take());
+        queue.drainTo(batch, batchSize - 1);
+        try {
+          deliver(batch);
+        } catch (RuntimeException e) {
+          // for example a mail which cannot be serialized, the worker must keep running
+          failed.increment(batch.size());
+          log.warn("Unable to deliver {} mails to WebWolf", batch.size(), e);
+        }
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void deliver(List<Pending> batch) throws InterruptedException {
+    var mails = batch.stream().map(Pending::mail).toList();
+    for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+      try {
+        restTemplate.postForEntity(batchUrl, mails, Void.class);
+        var now = System.nanoTime();
+        batch.forEach(pending -> delivery.record(Duration.ofNanos(now - pending.queuedAt())));
+        return;
+      } catch (RestClientException e) {
+        if (attempt == maxAttempts) {
+          failed.increment(batch.size());
+          log.warn("Unable to deliver {} mails to WebWolf: {}", batch.size(), e.getMessage());
+        } else {
+          Thread.sleep(retryDelay.multipliedBy(1L << (attempt - 1)));
+        }
+      }
+    }
+  }
+}
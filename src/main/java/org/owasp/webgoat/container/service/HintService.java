@@ -4,12 +4,27 @@
  */
 package org.owasp.webgoat.container.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.owasp.webgoat.container.i18n.PluginMessages;
 import org.owasp.webgoat.container.lessons.Assignment;
 import org.owasp.webgoat.container.lessons.Hint;
+import org.owasp.webgoat.container.lessons.Lesson;
+import org.owasp.webgoat.container.lessons.LessonName;
 import org.owasp.webgoat.container.session.Course;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,19 +32,32 @@ import org.springframework.web.bind.annotation.RestController;
 public class HintService {
 
   public static final String URL_HINTS_MVC = "/service/hint.mvc";
+
+  /** Revalidated with the ETag, the hints change with a new release or another language. */
+  private static final CacheControl HINTS_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+  private final PluginMessages pluginMessages;
   private final List<Hint> allHints;
+  private final Map<LessonName, Map<String, List<String>>> hintsByLesson;
+
+  /** Keyed by the supported locale, so the size is bounded by the lessons and label files */
+  private final Map<LessonHintsKey, ResolvedHints> resolvedHints = new ConcurrentHashMap<>();
 
-  public HintService(Course course) {
+  public HintService(Course course, PluginMessages pluginMessages) {
+    this.pluginMessages = pluginMessages;
     this.allHints =
         course.getLessons().stream()
             .flatMap(lesson -> lesson.getAssignments().stream())
             .map(this::createHint)
             .flatMap(Collection::stream)
             .toList();
+    this.hintsByLesson =
+        course.getLessons().stream()
+            .collect(Collectors.toUnmodifiableMap(Lesson::getName, this::hintsByAssignmentPath));
   }
 
   /**
-   * Returns hints for current lesson
+   * Returns hints for all lessons
    *
    * @return a {@link java.util.List} object.
    */
@@ -39,7 +67,66 @@ public class HintService {
     return allHints;
   }
 
+  /**
+   * Returns the hints of one lesson, already translated for the locale of the current user.
+   *
+   * @return the hints of the lesson or 404 if the lesson does not exist
+   */
+  @GetMapping(path = URL_HINTS_MVC + "/{lesson}", produces = "application/json")
+  @ResponseBody
+  public ResponseEntity<List<Hint>> getHintsForLesson(
+      @PathVariable("lesson") LessonName lessonName, Locale locale) {
+    var hintsByAssignment = hintsByLesson.get(lessonName);
+    if (hintsByAssignment == null) {
+      return ResponseEntity.notFound().build();
+    }
+    var supportedLocale = pluginMessages.getSupportedLocale(locale);
+    var resolved =
+        resolvedHints.computeIfAbsent(
+            new LessonHintsKey(lessonName, supportedLocale),
+            key -> resolve(hintsByAssignment, supportedLocale));
+    return ResponseEntity.ok()
+        .cacheControl(HINTS_CACHE_CONTROL)
+        .eTag(resolved.etag())
+        .body(resolved.hints());
+  }
+
   private List<Hint> createHint(Assignment a) {
     return a.getHints().stream().map(h -> new Hint(h, a.getPath())).toList();
   }
+
+  private Map<String, List<String>> hintsByAssignmentPath(Lesson lesson) {
+    var hints = new LinkedHashMap<String, List<String>>();
+    lesson
+        .getAssignments()
+        .forEach(
+            a -> hints.computeIfAbsent(a.getPath(), p -> new ArrayList<>()).addAll(a.getHints()));
+    hints.replaceAll((path, keys) -> List.copyOf(keys));
+    return Collections.unmodifiableMap(hints);
+  }
+
+  private ResolvedHints resolve(Map<String, List<String>> hintsByAssignment, Locale locale) {
+    var hints =
+        hintsByAssignment.entrySet().stream()
+            .flatMap(
+                e ->
+                    e.getValue().stream()
+                        .map(
+                            key ->
+                                new Hint(
+                                    pluginMessages.getMessage(key, null, key, locale), e.getKey())))
+            .toList();
+    var content = new StringBuilder();
+    hints.forEach(
+        h -> content.append(h.assignmentPath()).append('\0').append(h.hint()).append('\n'));
+    var etag =
+        "\""
+            + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8))
+            + "\"";
+    return new ResolvedHints(hints, etag);
+  }
+
+  private record LessonHintsKey(LessonName lessonName, Locale locale) {}
+
+  private record ResolvedHints(List<Hint> hints, String etag) {}
 }
@@ -8,36 +8,68 @@ import static org.springframework.web.bind.annotation.RequestMethod.GET;
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Random;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+/**
+ * The logo of the first challenge with the pincode hidden in it. The pincode does not change while
+ * WebGoat runs, so the image is created once and the browser only needs to revalidate it.
+ */
 @RestController
 public class ImageServlet {
 
   public static final int PINCODE = new Random().nextInt(10000);
 
+  /** Shared between all requests, must not be modified */
+  private final byte[] logo;
+
+  private final String etag;
+  private final long lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+
+  public ImageServlet() {
+    try {
+      this.logo =
+          new ClassPathResource("lessons/challenges/images/webgoat2.png")
+              .getInputStream()
+              .readAllBytes();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read the logo of challenge 1", e);
+    }
+
+    String pincode = String.format("%04d", PINCODE);
+
+    logo[81216] = (byte) pincode.charAt(0);
+    logo[81217] = (byte) pincode.charAt(1);
+    logo[81218] = (byte) pincode.charAt(2);
+    logo[81219] = (byte) pincode.charAt(3);
+
+    this.etag = "\"" + DigestUtils.md5DigestAsHex(logo) + "\"";
+  }
+
   @RequestMapping(
       method = {GET, POST},
       value = "/challenge/logo",
       produces = MediaType.IMAGE_PNG_VALUE)
   @ResponseBody
-  public byte[] logo() throws IOException {
-    byte[] in =
-        new ClassPathResource("lessons/challenges/images/webgoat2.png")
-            .getInputStream()
-            .readAllBytes();
-
-    String pincode = String.format("%04d", PINCODE);
-
-    in[81216] = (byte) pincode.charAt(0);
-    in[81217] = (byte) pincode.charAt(1);
-    in[81218] = (byte) pincode.charAt(2);
-    in[81219] = (byte) pincode.charAt(3);
-
-    return in;
+  public ResponseEntity<byte[]> logo(WebRequest request) {
+    if (request.checkNotModified(etag, lastModified)) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .eTag(etag)
+        .lastModified(lastModified)
+        .cacheControl(CacheControl.noCache())
+        .contentType(MediaType.IMAGE_PNG)
+        .body(logo);
   }
 }
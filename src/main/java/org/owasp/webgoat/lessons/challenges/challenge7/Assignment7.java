@@ -13,9 +13,9 @@ import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AttackResult;
+import org.owasp.webgoat.container.mail.MailOutbox;
 import org.owasp.webgoat.lessons.challenges.Email;
 import org.owasp.webgoat.lessons.challenges.Flags;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -27,7 +27,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
 
 @RestController
 @Slf4j
@@ -47,14 +46,11 @@ public class Assignment7 implements AssignmentEndpoint {
           + "Team WebGoat";
 
   private final Flags flags;
-  private final RestTemplate restTemplate;
-  private final String webWolfMailURL;
+  private final MailOutbox mailOutbox;
 
-  public Assignment7(
-      Flags flags, RestTemplate restTemplate, @Value("${webwolf.mail.url}") String webWolfMailURL) {
+  public Assignment7(Flags flags, MailOutbox mailOutbox) {
     this.flags = flags;
-    this.restTemplate = restTemplate;
-    this.webWolfMailURL = webWolfMailURL;
+    this.mailOutbox = mailOutbox;
   }
 
   @GetMapping("/challenge/7/reset-password/{link}")
@@ -91,7 +87,7 @@ public class Assignment7 implements AssignmentEndpoint {
                 .recipient(username)
                 .time(LocalDateTime.now())
                 .build();
-        restTemplate.postForEntity(webWolfMailURL, mail, Object.class);
+        mailOutbox.send(mail);
       }
     }
     return success(this).feedback("email.send").feedbackArgs(email).build();
@@ -5,8 +5,8 @@
 package org.owasp.webgoat.lessons.challenges.challenge8;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,14 +25,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class Assignment8 implements AssignmentEndpoint {
 
-  private static final Map<Integer, Integer> votes = new HashMap<>();
+  /** Only votes for 1 up to 5 stars are counted, the map is never modified */
+  private static final Map<Integer, LongAdder> votes =
+      Map.of(1, adder(400), 2, adder(120), 3, adder(140), 4, adder(150), 5, adder(300));
 
-  static {
-    votes.put(1, 400);
-    votes.put(2, 120);
-    votes.put(3, 140);
-    votes.put(4, 150);
-    votes.put(5, 300);
+  private static LongAdder adder(long initialVotes) {
+    var adder = new LongAdder();
+    adder.add(initialVotes);
+    return adder;
   }
 
   private final Flags flags;
@@ -48,8 +48,10 @@ public class Assignment8 implements AssignmentEndpoint {
           Map.of("error", true, "message", "Sorry but you need to login first in order to vote");
       return ResponseEntity.status(200).body(json);
     }
-    Integer allVotesForStar = votes.getOrDefault(nrOfStars, 0);
-    votes.put(nrOfStars, allVotesForStar + 1);
+    var allVotesForStar = votes.get(nrOfStars);
+    if (allVotesForStar != null) {
+      allVotesForStar.increment();
+    }
     return ResponseEntity.ok()
         .header("X-FlagController", "Thanks for voting, your flag is: " + flags.getFlag(8))
         .build();
@@ -59,16 +61,18 @@ public class Assignment8 implements AssignmentEndpoint {
   public ResponseEntity<?> getVotes() {
     return ResponseEntity.ok(
         votes.entrySet().stream()
-            .collect(Collectors.toMap(e -> "" + e.getKey(), e -> e.getValue())));
+            .collect(Collectors.toMap(e -> "" + e.getKey(), e -> e.getValue().sum())));
   }
 
   @GetMapping("/challenge/8/votes/average")
   public ResponseEntity<Map<String, Integer>> average() {
-    int totalNumberOfVotes = votes.values().stream().mapToInt(i -> i.intValue()).sum();
-    int categories =
-        votes.entrySet().stream()
-            .mapToInt(e -> e.getKey() * e.getValue())
-            .reduce(0, (a, b) -> a + b);
+    long totalNumberOfVotes = 0;
+    long categories = 0;
+    for (var e : votes.entrySet()) {
+      long votesForStar = e.getValue().sum();
+      totalNumberOfVotes += votesForStar;
+      categories += e.getKey() * votesForStar;
+    }
     var json = Map.of("average", (int) Math.ceil((double) categories / totalNumberOfVotes));
     return ResponseEntity.ok(json);
   }
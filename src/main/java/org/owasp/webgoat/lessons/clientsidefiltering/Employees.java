@@ -0,0 +1,149 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.clientsidefiltering;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * The employees of the client side filtering lesson. The file {@code employees.xml} in the user
+ * directory is read once with a streaming parser (the exercises may use large files), only the
+ * columns shown by the lesson are kept. The list of employees and its JSON are replaced when the
+ * file changes, a background thread watches the directory.
+ */
+@Component
+@Slf4j
+public class Employees {
+
+  /** The columns shown by the lesson, the other data of an employee is skipped */
+  private static final Set<String> COLUMNS =
+      Set.of("UserID", "FirstName", "LastName", "SSN", "Salary");
+
+  private static final String FILE_NAME = "employees.xml";
+
+  /**
+   * @param json the employees as JSON array, shared between all requests and must not be modified
+   */
+  record Snapshot(List<Map<String, String>> employees, byte[] json) {}
+
+  private final Path directory;
+  private final ObjectMapper objectMapper;
+  private final XMLInputFactory xmlInputFactory;
+  private volatile Snapshot snapshot =
+      new Snapshot(List.of(), "[]".getBytes(StandardCharsets.UTF_8));
+  private WatchService watchService;
+  private Thread watcher;
+
+  public Employees(
+      @Value("${webgoat.user.directory}") String webGoatHomeDirectory, ObjectMapper objectMapper) {
+    this.directory = Path.of(webGoatHomeDirectory, "ClientSideFiltering");
+    this.objectMapper = objectMapper;
+    this.xmlInputFactory = XMLInputFactory.newInstance();
+    xmlInputFactory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+  }
+
+  @PostConstruct
+  void start() throws IOException {
+    Files.createDirectories(directory);
+    try (var employees = new ClassPathResource("lessons/" + FILE_NAME).getInputStream()) {
+      Files.copy(employees, directory.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING);
+    }
+    reload();
+    watchService = directory.getFileSystem().newWatchService();
+    directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+    watcher = Thread.ofPlatform().name("employees-watcher").daemon().start(this::watch);
+  }
+
+  @PreDestroy
+  void stop() throws IOException {
+    watcher.interrupt();
+    watchService.close();
+  }
+
+  Snapshot snapshot() {
+    return snapshot;
+  }
+
+  private void watch() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        var key = watchService.take();
+        var changed =
+            key.pollEvents().stream()
+                .anyMatch(event -> FILE_NAME.equals(event.context().toString()));
+        key.reset();
+        if (changed) {
+          reload();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // stopped
+    }
+  }
+
+  /** Keeps the current employees if the file cannot be read (or is still being written) */
+  void reload() {
+    var file = directory.resolve(FILE_NAME);
+    try (var in = Files.newInputStream(file)) {
+      var employees = parse(in);
+      snapshot = new Snapshot(employees, objectMapper.writeValueAsBytes(employees));
+      log.debug("Loaded {} employees from {}", employees.size(), file);
+    } catch (IOException | XMLStreamException e) {
+      log.warn("Unable to read employees from '{}'", file, e);
+    }
+  }
+
+  private List<Map<String, String>> parse(InputStream in) throws XMLStreamException {
+    var employees = new ArrayList<Map<String, String>>();
+    var reader = xmlInputFactory.createXMLStreamReader(in);
+    try {
+      Map<String, String> employee = null;
+      while (reader.hasNext()) {
+        if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        var name = reader.getLocalName();
+        if ("Employee".equals(name)) {
+          employee = new LinkedHashMap<>();
+          employees.add(employee);
+        } else if (employee != null && COLUMNS.contains(name)) {
+          employee.put(name, reader.getElementText());
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    return employees.stream().map(Collections::unmodifiableMap).toList();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.cryptography;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * RSA key pairs generated in advance by a background thread, generating a key pair takes too long
+ * to do it on the request thread when a whole class starts the signing assignment. If the pool is
+ * empty the key pair is generated by the caller.
+ *
+ * <p>Metrics: {@code webgoat.crypto.key-pool.available} and {@code
+ * webgoat.crypto.key-pool.fallback} (key pairs generated by the caller).
+ */
+@Component
+@Slf4j
+public class KeyPairPool {
+
+  private final BlockingQueue<KeyPair> keyPairs;
+  private final Counter fallback;
+  private Thread worker;
+
+  public KeyPairPool(
+      MeterRegistry meterRegistry, @Value("${webgoat.crypto.key-pool.size:16}") int size) {
+    this.keyPairs = new ArrayBlockingQueue<>(size);
+    this.fallback = meterRegistry.counter("webgoat.crypto.key-pool.fallback");
+    meterRegistry.gauge("webgoat.crypto.key-pool.available", keyPairs, BlockingQueue::size);
+  }
+
+  @PostConstruct
+  void start() {
+    worker =
+        Thread.ofPlatform()
+            .name("rsa-key-pool")
+            .daemon()
+            .priority(Thread.MIN_PRIORITY)
+            .start(this::fill);
+  }
+
+  @PreDestroy
+  void stop() {
+    worker.interrupt();
+  }
+
+  public KeyPair take() throws GeneralSecurityException {
+    var keyPair = keyPairs.poll();
+    if (keyPair != null) {
+      return keyPair;
+    }
+    fallback.increment();
+    return CryptoUtil.generateKeyPair();
+  }
+
+  private void fill() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        keyPairs.put(CryptoUtil.generateKeyPair());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (GeneralSecurityException e) {
+      log.error("Unable to generate RSA key pairs, the pool stays empty", e);
+    }
+  }
+}
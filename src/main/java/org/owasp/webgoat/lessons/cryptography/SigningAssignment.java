@@ -8,12 +8,12 @@ import static org.owasp.webgoat.container.assignments.AttackResultBuilder.failed
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.success;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.security.InvalidAlgorithmParameterException;
+import java.security.GeneralSecurityException;
 import java.security.KeyPair;
-import java.security.NoSuchAlgorithmException;
 import java.security.interfaces.RSAPublicKey;
 import javax.xml.bind.DatatypeConverter;
 import lombok.extern.slf4j.Slf4j;
+import org.owasp.webgoat.container.assignments.AssignmentCost;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
 import org.owasp.webgoat.container.assignments.AttackResult;
@@ -34,14 +34,20 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class SigningAssignment implements AssignmentEndpoint {
 
+  private final KeyPairPool keyPairPool;
+
+  public SigningAssignment(KeyPairPool keyPairPool) {
+    this.keyPairPool = keyPairPool;
+  }
+
   @RequestMapping(path = "/crypto/signing/getprivate", produces = MediaType.TEXT_HTML_VALUE)
+  @AssignmentCost(concurrency = 2, perUserPerMinute = 10)
   @ResponseBody
-  public String getPrivateKey(HttpServletRequest request)
-      throws NoSuchAlgorithmException, InvalidAlgorithmParameterException {
+  public String getPrivateKey(HttpServletRequest request) throws GeneralSecurityException {
 
     String privateKey = (String) request.getSession().getAttribute("privateKeyString");
     if (privateKey == null) {
-      KeyPair keyPair = CryptoUtil.generateKeyPair();
+      KeyPair keyPair = keyPairPool.take();
       privateKey = CryptoUtil.getPrivateKeyInPEM(keyPair);
       request.getSession().setAttribute("privateKeyString", privateKey);
       request.getSession().setAttribute("keyPair", keyPair);
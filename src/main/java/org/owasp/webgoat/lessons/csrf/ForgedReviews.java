@@ -14,13 +14,13 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.owasp.webgoat.container.CurrentUsername;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
 import org.owasp.webgoat.container.assignments.AttackResult;
+import org.owasp.webgoat.container.lessons.LessonState;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -33,7 +33,6 @@ public class ForgedReviews implements AssignmentEndpoint {
 
   private static DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd, HH:mm:ss");
 
-  private static final Map<String, List<Review>> userReviews = new HashMap<>();
   private static final List<Review> REVIEWS = new ArrayList<>();
   private static final String weakAntiCSRF = "2aa14227b9a13d0bede0388a7fba9aa9";
 
@@ -50,6 +49,16 @@ public class ForgedReviews implements AssignmentEndpoint {
             1));
   }
 
+  private final LessonState<Review> userReviews;
+
+  public ForgedReviews(LessonStateStore stateStore) {
+    this.userReviews =
+        stateStore.create(
+            "CSRF.reviews",
+            review ->
+                LessonStateStore.sizeOf(review.getUser(), review.getDateTime(), review.getText()));
+  }
+
   @GetMapping(
       path = "/csrf/review",
       produces = MediaType.APPLICATION_JSON_VALUE,
@@ -57,10 +66,7 @@ public class ForgedReviews implements AssignmentEndpoint {
   @ResponseBody
   public Collection<Review> retrieveReviews(@CurrentUsername String username) {
     Collection<Review> allReviews = Lists.newArrayList();
-    Collection<Review> newReviews = userReviews.get(username);
-    if (newReviews != null) {
-      allReviews.addAll(newReviews);
-    }
+    allReviews.addAll(userReviews.values(username));
 
     allReviews.addAll(REVIEWS);
 
@@ -85,9 +91,7 @@ public class ForgedReviews implements AssignmentEndpoint {
     review.setDateTime(LocalDateTime.now().format(fmt));
     review.setUser(username);
     review.setStars(stars);
-    var reviews = userReviews.getOrDefault(username, new ArrayList<>());
-    reviews.add(review);
-    userReviews.put(username, reviews);
+    userReviews.add(username, review);
     // short-circuit
     if (validateReq == null || !validateReq.equals(weakAntiCSRF)) {
       return failed(this).feedback("csrf-you-forgot-something").build();
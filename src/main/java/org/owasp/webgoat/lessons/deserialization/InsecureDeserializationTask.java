@@ -13,6 +13,7 @@ import java.io.InvalidClassException;
 import java.io.ObjectInputStream;
 import java.util.Base64;
 import org.dummy.insecure.framework.VulnerableTaskHolder;
+import org.owasp.webgoat.container.assignments.AssignmentCost;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
 import org.owasp.webgoat.container.assignments.AttackResult;
@@ -30,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class InsecureDeserializationTask implements AssignmentEndpoint {
 
   @PostMapping("/InsecureDeserialization/task")
+  @AssignmentCost(perUserPerMinute = 10)
   @ResponseBody
   public AttackResult completed(@RequestParam String token) throws IOException {
     String b64token;
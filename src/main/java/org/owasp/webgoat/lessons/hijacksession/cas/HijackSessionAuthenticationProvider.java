@@ -5,13 +5,14 @@
 package org.owasp.webgoat.lessons.hijacksession.cas;
 
 import java.time.Instant;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoublePredicate;
 import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.ApplicationScope;
 
@@ -21,16 +22,27 @@ import org.springframework.web.context.annotation.ApplicationScope;
 @Component
 public class HijackSessionAuthenticationProvider implements AuthenticationProvider<Authentication> {
 
-  private Queue<String> sessions = new LinkedList<>();
-  private static long id = new Random().nextLong() & Long.MAX_VALUE;
+  private static final AtomicLong id = new AtomicLong(new Random().nextLong() & Long.MAX_VALUE);
   protected static final int MAX_SESSIONS = 50;
 
   private static final DoublePredicate PROBABILITY_DOUBLE_PREDICATE = pr -> pr < 0.75;
   private static final Supplier<String> GENERATE_SESSION_ID =
-      () -> ++id + "-" + Instant.now().toEpochMilli();
+      () -> id.incrementAndGet() + "-" + Instant.now().toEpochMilli();
   public static final Supplier<Authentication> AUTHENTICATION_SUPPLIER =
       () -> Authentication.builder().id(GENERATE_SESSION_ID.get()).build();
 
+  private final SessionRegistry sessions;
+
+  public HijackSessionAuthenticationProvider() {
+    this(MAX_SESSIONS);
+  }
+
+  @Autowired
+  public HijackSessionAuthenticationProvider(
+      @Value("${webgoat.hijack-session.max-sessions:" + MAX_SESSIONS + "}") int maxSessions) {
+    this.sessions = new SessionRegistry(maxSessions);
+  }
+
   @Override
   public Authentication authenticate(Authentication authentication) {
     if (authentication == null) {
@@ -61,10 +73,8 @@ public class HijackSessionAuthenticationProvider implements AuthenticationProvid
   }
 
   protected boolean addSession(String sessionId) {
-    if (sessions.size() >= MAX_SESSIONS) {
-      sessions.remove();
-    }
-    return sessions.add(sessionId);
+    sessions.add(sessionId);
+    return true;
   }
 
   protected int getSessionsSize() {
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.hijacksession.cas;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The last session ids which were handed out. The ids are kept in a ring of a fixed size, the
+ * oldest id is overwritten by a new one. An index (id -> number of slots holding it) makes the
+ * lookup O(1). Neither adding nor looking up takes a lock, while an id is added a concurrent lookup
+ * may still see the id it replaces, which is fine for this lesson.
+ */
+class SessionRegistry {
+
+  /** Stands for a missing id, the provider never looks it up */
+  private static final String NO_ID = "";
+
+  private final AtomicReferenceArray<String> ring;
+  private final AtomicLong next = new AtomicLong();
+  private final Map<String, Integer> index = new ConcurrentHashMap<>();
+
+  SessionRegistry(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.ring = new AtomicReferenceArray<>(capacity);
+  }
+
+  void add(String sessionId) {
+    var id = Objects.requireNonNullElse(sessionId, NO_ID);
+    index.merge(id, 1, Integer::sum);
+    var slot = (int) (next.getAndIncrement() % ring.length());
+    var replaced = ring.getAndSet(slot, id);
+    if (replaced != null) {
+      index.computeIfPresent(replaced, (key, count) -> count == 1 ? null : count - 1);
+    }
+  }
+
+  boolean contains(String sessionId) {
+    return sessionId != null && index.containsKey(sessionId);
+  }
+
+  int size() {
+    return (int) Math.min(next.get(), ring.length());
+  }
+}
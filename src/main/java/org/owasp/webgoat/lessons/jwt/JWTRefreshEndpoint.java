@@ -14,16 +14,17 @@ import io.jsonwebtoken.Header;
 import io.jsonwebtoken.Jwt;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.owasp.webgoat.container.CurrentUsername;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
 import org.owasp.webgoat.container.assignments.AttackResult;
+import org.owasp.webgoat.container.lessons.LessonState;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -44,14 +45,22 @@ public class JWTRefreshEndpoint implements AssignmentEndpoint {
 
   public static final String PASSWORD = "bm5nhSkxCXZkKRy4";
   private static final String JWT_PASSWORD = "bm5n3SkxCX4kKRy4";
-  private static final List<String> validRefreshTokens = new ArrayList<>();
+
+  private final LessonState<String> validRefreshTokens;
+  private final JwtParseCache jwtParseCache;
+
+  public JWTRefreshEndpoint(LessonStateStore stateStore, JwtParseCache jwtParseCache) {
+    this.jwtParseCache = jwtParseCache;
+    this.validRefreshTokens = stateStore.create("JWT.refreshTokens", LessonStateStore::sizeOf);
+  }
 
   @PostMapping(
       value = "/JWT/refresh/login",
       consumes = MediaType.APPLICATION_JSON_VALUE,
       produces = MediaType.APPLICATION_JSON_VALUE)
   @ResponseBody
-  public ResponseEntity follow(@RequestBody(required = false) Map<String, Object> json) {
+  public ResponseEntity follow(
+      @RequestBody(required = false) Map<String, Object> json, @CurrentUsername String username) {
     if (json == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
@@ -59,12 +68,12 @@ public class JWTRefreshEndpoint implements AssignmentEndpoint {
     String password = (String) json.get("password");
 
     if ("Jerry".equalsIgnoreCase(user) && PASSWORD.equals(password)) {
-      return ok(createNewTokens(user));
+      return ok(createNewTokens(user, username));
     }
     return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
   }
 
-  private Map<String, Object> createNewTokens(String user) {
+  private Map<String, Object> createNewTokens(String user, String username) {
     Map<String, Object> claims = Map.of("admin", "false", "user", user);
     String token =
         Jwts.builder()
@@ -74,7 +83,7 @@ public class JWTRefreshEndpoint implements AssignmentEndpoint {
             .compact();
     Map<String, Object> tokenJson = new HashMap<>();
     String refreshToken = RandomStringUtils.randomAlphabetic(20);
-    validRefreshTokens.add(refreshToken);
+    validRefreshTokens.add(username, refreshToken);
     tokenJson.put("access_token", token);
     tokenJson.put("refresh_token", refreshToken);
     return tokenJson;
@@ -88,7 +97,7 @@ public class JWTRefreshEndpoint implements AssignmentEndpoint {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
     try {
-      Jwt jwt = Jwts.parser().setSigningKey(JWT_PASSWORD).parse(token.replace("Bearer ", ""));
+      Jwt jwt = jwtParseCache.parse(JWT_PASSWORD, token.replace("Bearer ", ""));
       Claims claims = (Claims) jwt.getBody();
       String user = (String) claims.get("user");
       if ("Tom".equals(user)) {
@@ -109,7 +118,8 @@ public class JWTRefreshEndpoint implements AssignmentEndpoint {
   @ResponseBody
   public ResponseEntity newToken(
       @RequestHeader(value = "Authorization", required = false) String token,
-      @RequestBody(required = false) Map<String, Object> json) {
+      @RequestBody(required = false) Map<String, Object> json,
+      @CurrentUsername String username) {
     if (token == null || json == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
@@ -117,8 +127,7 @@ public class JWTRefreshEndpoint implements AssignmentEndpoint {
     String user;
     String refreshToken;
     try {
-      Jwt<Header, Claims> jwt =
-          Jwts.parser().setSigningKey(JWT_PASSWORD).parse(token.replace("Bearer ", ""));
+      Jwt<Header, Claims> jwt = jwtParseCache.parse(JWT_PASSWORD, token.replace("Bearer ", ""));
       user = (String) jwt.getBody().get("user");
       refreshToken = (String) json.get("refresh_token");
     } catch (ExpiredJwtException e) {
@@ -128,9 +137,8 @@ public class JWTRefreshEndpoint implements AssignmentEndpoint {
 
     if (user == null || refreshToken == null) {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-    } else if (validRefreshTokens.contains(refreshToken)) {
-      validRefreshTokens.remove(refreshToken);
-      return ok(createNewTokens(user));
+    } else if (validRefreshTokens.remove(username, refreshToken)) {
+      return ok(createNewTokens(user, username));
     } else {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
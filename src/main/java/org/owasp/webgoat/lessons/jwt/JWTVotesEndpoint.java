@@ -6,7 +6,6 @@ package org.owasp.webgoat.lessons.jwt;
 
 import static java.util.Comparator.comparingLong;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.failed;
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.success;
 
@@ -21,8 +20,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
@@ -56,7 +56,16 @@ public class JWTVotesEndpoint implements AssignmentEndpoint {
   private static String validUsers = "TomJerrySylvester";
 
   private static int totalVotes = 38929;
-  private final Map<String, Vote> votes = new HashMap<>();
+  private final Map<String, Vote> votes = new ConcurrentHashMap<>();
+
+  /** The votes sorted by average, only sorted again when a vote changes an average */
+  private volatile List<Vote> ranking = List.of();
+
+  private final JwtParseCache jwtParseCache;
+
+  public JWTVotesEndpoint(JwtParseCache jwtParseCache) {
+    this.jwtParseCache = jwtParseCache;
+  }
 
   @PostConstruct
   public void initVotes() {
@@ -98,6 +107,11 @@ public class JWTVotesEndpoint implements AssignmentEndpoint {
             "challenge3.png",
             10000,
             totalVotes));
+    rank();
+  }
+
+  private synchronized void rank() {
+    ranking = votes.values().stream().sorted(comparingLong(Vote::getAverage).reversed()).toList();
   }
 
   @GetMapping("/JWT/votings/login")
@@ -127,16 +141,12 @@ public class JWTVotesEndpoint implements AssignmentEndpoint {
   @ResponseBody
   public MappingJacksonValue getVotes(
       @CookieValue(value = "access_token", required = false) String accessToken) {
-    MappingJacksonValue value =
-        new MappingJacksonValue(
-            votes.values().stream()
-                .sorted(comparingLong(Vote::getAverage).reversed())
-                .collect(toList()));
+    MappingJacksonValue value = new MappingJacksonValue(ranking);
     if (StringUtils.isEmpty(accessToken)) {
       value.setSerializationView(Views.GuestView.class);
     } else {
       try {
-        Jwt jwt = Jwts.parser().setSigningKey(JWT_PASSWORD).parse(accessToken);
+        Jwt jwt = jwtParseCache.parse(JWT_PASSWORD, accessToken);
         Claims claims = (Claims) jwt.getBody();
         String user = (String) claims.get("user");
         if ("Guest".equals(user) || !validUsers.contains(user)) {
@@ -161,13 +171,13 @@ public class JWTVotesEndpoint implements AssignmentEndpoint {
       return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     } else {
       try {
-        Jwt jwt = Jwts.parser().setSigningKey(JWT_PASSWORD).parse(accessToken);
+        Jwt jwt = jwtParseCache.parse(JWT_PASSWORD, accessToken);
         Claims claims = (Claims) jwt.getBody();
         String user = (String) claims.get("user");
         if (!validUsers.contains(user)) {
           return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         } else {
-          ofNullable(votes.get(title)).ifPresent(v -> v.incrementNumberOfVotes(totalVotes));
+          ofNullable(votes.get(title)).filter(Vote::incrementNumberOfVotes).ifPresent(v -> rank());
           return ResponseEntity.accepted().build();
         }
       } catch (JwtException e) {
@@ -184,13 +194,14 @@ public class JWTVotesEndpoint implements AssignmentEndpoint {
       return failed(this).feedback("jwt-invalid-token").build();
     } else {
       try {
-        Jwt jwt = Jwts.parser().setSigningKey(JWT_PASSWORD).parse(accessToken);
+        Jwt jwt = jwtParseCache.parse(JWT_PASSWORD, accessToken);
         Claims claims = (Claims) jwt.getBody();
         boolean isAdmin = Boolean.valueOf(String.valueOf(claims.get("admin")));
         if (!isAdmin) {
           return failed(this).feedback("jwt-only-admin").build();
         } else {
           votes.values().forEach(vote -> vote.reset());
+          rank();
           return success(this).build();
         }
       } catch (JwtException e) {
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.jwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jsonwebtoken.ClaimJwtException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwt;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the outcome of {@code Jwts.parser().setSigningKey(key).parse(token)} for the endpoints
+ * with a fixed signing key. The voting page polls with the same cookie all the time, a cached token
+ * is not decoded and verified again. Entries are keyed by token and a fingerprint of the key.
+ *
+ * <p>The outcome is exactly the same as parsing again: a token is only cached until its {@code exp}
+ * and errors which depend on the time (expired, not yet valid) are never cached. The parsed tokens
+ * are shared, callers must not modify the claims.
+ */
+@Component
+public class JwtParseCache {
+
+  private record Key(String keyFingerprint, String token) {}
+
+  private record Outcome(Jwt<?, ?> jwt, JwtException failure, long expiresAt) {}
+
+  private final Cache<Key, Outcome> outcomes;
+  private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+  private final LongSupplier clock;
+
+  @Autowired
+  public JwtParseCache(
+      @Value("${webgoat.jwt.parse-cache.size:1000}") int size,
+      @Value("${webgoat.jwt.parse-cache.ttl:5m}") Duration ttl) {
+    this(size, ttl, System::currentTimeMillis);
+  }
+
+  JwtParseCache(int size, Duration ttl, LongSupplier clock) {
+    this.outcomes = CacheBuilder.newBuilder().maximumSize(size).expireAfterWrite(ttl).build();
+    this.clock = clock;
+  }
+
+  /**
+   * @param signingKey the base64 encoded key, one of the keys of the lessons (the fingerprints of
+   *     the keys are kept)
+   * @throws JwtException the same exception as {@code Jwts.parser().parse(token)}
+   */
+  @SuppressWarnings("rawtypes")
+  public Jwt parse(String signingKey, String token) {
+    var key = new Key(fingerprints.computeIfAbsent(signingKey, JwtParseCache::fingerprint), token);
+    var outcome = outcomes.getIfPresent(key);
+    if (outcome == null || clock.getAsLong() >= outcome.expiresAt()) {
+      outcome = parseToken(signingKey, token);
+      if (outcome.expiresAt() > clock.getAsLong()) {
+        outcomes.put(key, outcome);
+      } else {
+        outcomes.invalidate(key);
+      }
+    }
+    if (outcome.failure() != null) {
+      throw outcome.failure();
+    }
+    return outcome.jwt();
+  }
+
+  private Outcome parseToken(String signingKey, String token) {
+    try {
+      var jwt =
+          Jwts.parser()
+              .setClock(() -> new Date(clock.getAsLong()))
+              .setSigningKey(signingKey)
+              .parse(token);
+      var expiresAt = Long.MAX_VALUE;
+      if (jwt.getBody() instanceof Claims claims && claims.getExpiration() != null) {
+        expiresAt = claims.getExpiration().getTime();
+      }
+      return new Outcome(jwt, null, expiresAt);
+    } catch (ClaimJwtException e) {
+      return new Outcome(null, e, Long.MIN_VALUE);
+    } catch (JwtException e) {
+      return new Outcome(null, e, Long.MAX_VALUE);
+    }
+  }
+
+  private static String fingerprint(String signingKey) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(signingKey.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
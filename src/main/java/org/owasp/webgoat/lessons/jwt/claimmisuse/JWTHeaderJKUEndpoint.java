@@ -7,24 +7,36 @@ package org.owasp.webgoat.lessons.jwt.claimmisuse;
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.failed;
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.success;
 
+import com.auth0.jwk.Jwk;
 import com.auth0.jwk.JwkException;
-import com.auth0.jwk.JwkProviderBuilder;
+import com.auth0.jwk.SigningKeyNotFoundException;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
-import java.net.MalformedURLException;
-import java.net.URL;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.common.KeyValue;
+import java.net.URI;
 import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
 import org.owasp.webgoat.container.assignments.AttackResult;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.observation.ClientHttpObservationDocumentation.LowCardinalityKeyNames;
+import org.springframework.http.client.observation.ClientRequestObservationContext;
+import org.springframework.http.client.observation.ClientRequestObservationConvention;
+import org.springframework.http.client.observation.DefaultClientRequestObservationConvention;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
 
 @RequestMapping("/JWT/")
 @RestController
@@ -37,6 +49,32 @@ import org.springframework.web.bind.annotation.RestController;
 })
 public class JWTHeaderJKUEndpoint implements AssignmentEndpoint {
 
+  /**
+   * The host of the jku header is chosen by the user, the calls are recorded with fixed tags so the
+   * number of {@code http.client.requests} metrics stays bounded.
+   */
+  private static final ClientRequestObservationConvention JKU_OBSERVATION =
+      new DefaultClientRequestObservationConvention() {
+        @Override
+        protected KeyValue uri(ClientRequestObservationContext context) {
+          return KeyValue.of(LowCardinalityKeyNames.URI, "jku");
+        }
+
+        @Override
+        protected KeyValue clientName(ClientRequestObservationContext context) {
+          return KeyValue.of(LowCardinalityKeyNames.CLIENT_NAME, "jwt-jku");
+        }
+      };
+
+  private final RestTemplate restTemplate;
+  private final ObjectMapper objectMapper;
+
+  public JWTHeaderJKUEndpoint(RestTemplateBuilder restTemplateBuilder, ObjectMapper objectMapper) {
+    this.restTemplate = restTemplateBuilder.build();
+    this.restTemplate.setObservationConvention(JKU_OBSERVATION);
+    this.objectMapper = objectMapper;
+  }
+
   @PostMapping("jku/follow/{user}")
   public @ResponseBody String follow(@PathVariable("user") String user) {
     if ("Jerry".equals(user)) {
@@ -53,9 +91,11 @@ public class JWTHeaderJKUEndpoint implements AssignmentEndpoint {
     } else {
       try {
         var decodedJWT = JWT.decode(token);
-        var jku = decodedJWT.getHeaderClaim("jku");
-        var jwkProvider = new JwkProviderBuilder(new URL(jku.asString())).build();
-        var jwk = jwkProvider.get(decodedJWT.getKeyId());
+        var jku = decodedJWT.getHeaderClaim("jku").asString();
+        if (jku == null) {
+          return failed(this).feedback("jwt-invalid-token").output("No jku header").build();
+        }
+        var jwk = fetchJwk(URI.create(jku), decodedJWT.getKeyId());
         var algorithm = Algorithm.RSA256((RSAPublicKey) jwk.getPublicKey());
         JWT.require(algorithm).build().verify(decodedJWT);
 
@@ -68,9 +108,30 @@ public class JWTHeaderJKUEndpoint implements AssignmentEndpoint {
         } else {
           return failed(this).feedback("jwt-final-not-tom").build();
         }
-      } catch (MalformedURLException | JWTVerificationException | JwkException e) {
+      } catch (IllegalArgumentException
+          | RestClientException
+          | JsonProcessingException
+          | JWTVerificationException
+          | JwkException e) {
         return failed(this).feedback("jwt-invalid-token").output(e.toString()).build();
       }
     }
   }
+
+  /** Same key lookup as the {@code UrlJwkProvider} but with the pooled client of WebGoat */
+  private Jwk fetchJwk(URI jku, String keyId) throws JsonProcessingException, JwkException {
+    var jwks = objectMapper.readValue(restTemplate.getForObject(jku, String.class), JWKS.class);
+    var keys = jwks == null || jwks.keys() == null ? List.<Map<String, Object>>of() : jwks.keys();
+    if (keyId == null && keys.size() == 1) {
+      return Jwk.fromValues(keys.getFirst());
+    }
+    for (var key : keys) {
+      if (keyId != null && keyId.equals(key.get("kid"))) {
+        return Jwk.fromValues(key);
+      }
+    }
+    throw new SigningKeyNotFoundException("No key found in " + jku + " with kid " + keyId, null);
+  }
+
+  private record JWKS(List<Map<String, Object>> keys) {}
 }
@@ -5,8 +5,14 @@
 package org.owasp.webgoat.lessons.jwt.votes;
 
 import com.fasterxml.jackson.annotation.JsonView;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+/**
+ * The number of votes is a {@link LongAdder}, so concurrent votes are never lost and do not
+ * contend. The average is derived from the number of votes when it is read.
+ */
 @Getter
 public class Vote {
   @JsonView(Views.GuestView.class)
@@ -21,14 +27,18 @@ public class Vote {
   @JsonView(Views.GuestView.class)
   private final String imageBig;
 
-  @JsonView(Views.UserView.class)
-  private int numberOfVotes;
+  @Getter(AccessLevel.NONE)
+  private final LongAdder numberOfVotes = new LongAdder();
 
   @JsonView(Views.UserView.class)
   private boolean votingAllowed = true;
 
-  @JsonView(Views.UserView.class)
-  private long average = 0;
+  @Getter(AccessLevel.NONE)
+  private final int totalVotes;
+
+  /** After a reset the average is 1 until the next vote */
+  @Getter(AccessLevel.NONE)
+  private volatile boolean reset;
 
   public Vote(
       String title,
@@ -41,21 +51,37 @@ public class Vote {
     this.information = information;
     this.imageSmall = imageSmall;
     this.imageBig = imageBig;
-    this.numberOfVotes = numberOfVotes;
-    this.average = calculateStars(totalVotes);
+    this.numberOfVotes.add(numberOfVotes);
+    this.totalVotes = totalVotes;
+  }
+
+  @JsonView(Views.UserView.class)
+  public long getNumberOfVotes() {
+    return numberOfVotes.sum();
+  }
+
+  @JsonView(Views.UserView.class)
+  public long getAverage() {
+    return reset ? 1 : calculateStars(numberOfVotes.sum());
   }
 
-  public void incrementNumberOfVotes(int totalVotes) {
-    this.numberOfVotes = this.numberOfVotes + 1;
-    this.average = calculateStars(totalVotes);
+  /**
+   * @return true if the vote changed the average
+   */
+  public boolean incrementNumberOfVotes() {
+    var before = getAverage();
+    numberOfVotes.increment();
+    reset = false;
+    return getAverage() != before;
   }
 
   public void reset() {
-    this.numberOfVotes = 1;
-    this.average = 1;
+    numberOfVotes.reset();
+    numberOfVotes.increment();
+    reset = true;
   }
 
-  private long calculateStars(int totalVotes) {
+  private long calculateStars(long numberOfVotes) {
     return Math.round(((double) numberOfVotes / (double) totalVotes) * 4);
   }
 }
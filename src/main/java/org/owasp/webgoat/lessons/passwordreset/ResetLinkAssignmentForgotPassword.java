@@ -12,6 +12,7 @@ import java.util.UUID;
 import org.owasp.webgoat.container.CurrentUsername;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AttackResult;
+import org.owasp.webgoat.container.mail.MailOutbox;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -26,22 +27,25 @@ import org.springframework.web.client.RestTemplate;
 public class ResetLinkAssignmentForgotPassword implements AssignmentEndpoint {
 
   private final RestTemplate restTemplate;
+  private final MailOutbox mailOutbox;
+  private final ResetLinks resetLinks;
   private final String webWolfHost;
   private final String webWolfPort;
   private final String webWolfURL;
-  private final String webWolfMailURL;
 
   public ResetLinkAssignmentForgotPassword(
       RestTemplate restTemplate,
+      MailOutbox mailOutbox,
+      ResetLinks resetLinks,
       @Value("${webwolf.host}") String webWolfHost,
       @Value("${webwolf.port}") String webWolfPort,
-      @Value("${webwolf.url}") String webWolfURL,
-      @Value("${webwolf.mail.url}") String webWolfMailURL) {
+      @Value("${webwolf.url}") String webWolfURL) {
     this.restTemplate = restTemplate;
+    this.mailOutbox = mailOutbox;
+    this.resetLinks = resetLinks;
     this.webWolfHost = webWolfHost;
     this.webWolfPort = webWolfPort;
     this.webWolfURL = webWolfURL;
-    this.webWolfMailURL = webWolfMailURL;
   }
 
   @PostMapping("/PasswordReset/ForgotPassword/create-password-reset-link")
@@ -49,17 +53,15 @@ public class ResetLinkAssignmentForgotPassword implements AssignmentEndpoint {
   public AttackResult sendPasswordResetLink(
       @RequestParam String email, HttpServletRequest request, @CurrentUsername String username) {
     String resetLink = UUID.randomUUID().toString();
-    ResetLinkAssignment.resetLinks.add(resetLink);
     String host = request.getHeader(HttpHeaders.HOST);
     if (ResetLinkAssignment.TOM_EMAIL.equals(email)
         && (host.contains(webWolfPort)
             && host.contains(webWolfHost))) { // User indeed changed the host header.
-      ResetLinkAssignment.userToTomResetLink.put(username, resetLink);
+      resetLinks.addTomsLink(username, resetLink);
       fakeClickingLinkEmail(webWolfURL, resetLink);
     } else {
-      try {
-        sendMailToUser(email, host, resetLink);
-      } catch (Exception e) {
+      resetLinks.add(username, resetLink);
+      if (!sendMailToUser(email, host, resetLink)) {
         return failed(this).output("E-mail can't be send. please try again.").build();
       }
     }
@@ -67,7 +69,7 @@ public class ResetLinkAssignmentForgotPassword implements AssignmentEndpoint {
     return success(this).feedback("email.send").feedbackArgs(email).build();
   }
 
-  private void sendMailToUser(String email, String host, String resetLink) {
+  private boolean sendMailToUser(String email, String host, String resetLink) {
     int index = email.indexOf("@");
     String username = email.substring(0, index == -1 ? email.length() : index);
     PasswordResetEmail mail =
@@ -77,19 +79,18 @@ public class ResetLinkAssignmentForgotPassword implements AssignmentEndpoint {
             .sender("password-reset@webgoat-cloud.net")
             .recipient(username)
             .build();
-    this.restTemplate.postForEntity(webWolfMailURL, mail, Object.class);
+    return mailOutbox.send(mail);
   }
 
   private void fakeClickingLinkEmail(String webWolfURL, String resetLink) {
     try {
       HttpHeaders httpHeaders = new HttpHeaders();
       HttpEntity httpEntity = new HttpEntity(httpHeaders);
-      new RestTemplate()
-          .exchange(
-              String.format("%s/PasswordReset/reset/reset-password/%s", webWolfURL, resetLink),
-              HttpMethod.GET,
-              httpEntity,
-              Void.class);
+      restTemplate.exchange(
+          String.format("%s/PasswordReset/reset/reset-password/%s", webWolfURL, resetLink),
+          HttpMethod.GET,
+          httpEntity,
+          Void.class);
     } catch (Exception e) {
       // don't care
     }
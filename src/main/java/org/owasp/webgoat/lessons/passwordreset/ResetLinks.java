@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.passwordreset;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.owasp.webgoat.container.lessons.LessonState;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
+import org.springframework.stereotype.Component;
+
+/**
+ * The password reset links a user requested, including the link which was sent to Tom, and the
+ * password the user set for Tom with that link.
+ */
+@Component
+public class ResetLinks {
+
+  private final LessonState<String> links;
+  private final LessonState<String> tomsLinks;
+  private final LessonState<String> tomsPasswords;
+
+  public ResetLinks(LessonStateStore stateStore) {
+    var limits = stateStore.getDefaultLimits();
+    this.links =
+        stateStore.create(
+            "PasswordReset.links",
+            LessonStateStore::sizeOf,
+            limits.withMaxEntriesPerUser(20).withTtl(Duration.ofHours(1)));
+    this.tomsLinks =
+        stateStore.create(
+            "PasswordReset.tomsLinks", LessonStateStore::sizeOf, limits.withMaxEntriesPerUser(1));
+    this.tomsPasswords =
+        stateStore.create(
+            "PasswordReset.tomsPasswords",
+            LessonStateStore::sizeOf,
+            limits.withMaxEntriesPerUser(1));
+  }
+
+  void add(String username, String link) {
+    links.add(username, link);
+  }
+
+  void addTomsLink(String username, String link) {
+    add(username, link);
+    tomsLinks.set(username, link);
+  }
+
+  boolean contains(String username, String link) {
+    return links.contains(username, link);
+  }
+
+  boolean isTomsLink(String username, String link) {
+    return tomsLinks.contains(username, link);
+  }
+
+  Optional<String> latest(String username) {
+    return links.latest(username);
+  }
+
+  Optional<String> tomsPassword(String username) {
+    return tomsPasswords.latest(username);
+  }
+
+  void changeTomsPassword(String username, String password) {
+    tomsPasswords.set(username, password);
+  }
+}
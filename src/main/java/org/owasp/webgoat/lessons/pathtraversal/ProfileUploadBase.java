@@ -8,29 +8,38 @@ import static org.owasp.webgoat.container.assignments.AttackResultBuilder.failed
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.informationMessage;
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.success;
 
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.Arrays;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FilenameUtils;
 import org.owasp.webgoat.container.CurrentUsername;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AttackResult;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @Getter
 public class ProfileUploadBase implements AssignmentEndpoint {
 
+  private static final byte[] DEFAULT_IMAGE = loadDefaultImage();
+  private static final String DEFAULT_IMAGE_ETAG =
+      "\"" + DigestUtils.md5DigestAsHex(DEFAULT_IMAGE) + "\"";
+
   private final String webGoatHomeDirectory;
 
   public ProfileUploadBase(String webGoatHomeDirectory) {
@@ -93,37 +102,87 @@ public class ProfileUploadBase implements AssignmentEndpoint {
         .build();
   }
 
-  public ResponseEntity<?> getProfilePicture(@CurrentUsername String username) {
-    return ResponseEntity.ok()
-        .contentType(MediaType.parseMediaType(MediaType.IMAGE_JPEG_VALUE))
-        .body(getProfilePictureAsBase64(username));
+  /**
+   * Writes the first picture in the directory of the user (or the default picture) base64 encoded
+   * to the response. The picture is streamed from disk, the ETag is based on the modification time
+   * and size of the file so the browser only downloads it again after a new upload.
+   */
+  public void getProfilePicture(
+      @CurrentUsername String username, WebRequest request, HttpServletResponse response)
+      throws IOException {
+    var picture = findProfilePicture(username);
+    var attributes = picture.map(ProfileUploadBase::attributes);
+    if (attributes.isEmpty()) {
+      if (!request.checkNotModified(DEFAULT_IMAGE_ETAG)) {
+        response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.getOutputStream().write(DEFAULT_IMAGE);
+      }
+      return;
+    }
+    var etag =
+        "\"%x-%x\""
+            .formatted(attributes.get().lastModifiedTime().toMillis(), attributes.get().size());
+    if (request.checkNotModified(etag)) {
+      return;
+    }
+    response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+    try (var out = Base64.getEncoder().wrap(response.getOutputStream())) {
+      Files.copy(picture.get(), out);
+    }
   }
 
+  /**
+   * @return the base64 encoded picture of the user, or the default picture
+   */
   protected byte[] getProfilePictureAsBase64(String username) {
-    var profilePictureDirectory = new File(this.webGoatHomeDirectory, "/PathTraversal/" + username);
-    var profileDirectoryFiles = profilePictureDirectory.listFiles();
-
-    if (profileDirectoryFiles != null && profileDirectoryFiles.length > 0) {
-      return Arrays.stream(profileDirectoryFiles)
-          .filter(file -> FilenameUtils.isExtension(file.getName(), List.of("jpg", "png")))
-          .findFirst()
-          .map(
-              file -> {
-                try (var inputStream = new FileInputStream(profileDirectoryFiles[0])) {
-                  return Base64.getEncoder().encode(FileCopyUtils.copyToByteArray(inputStream));
-                } catch (IOException e) {
-                  return defaultImage();
-                }
-              })
-          .orElse(defaultImage());
-    } else {
-      return defaultImage();
+    return findProfilePicture(username)
+        .map(
+            file -> {
+              try {
+                return Base64.getEncoder().encode(Files.readAllBytes(file));
+              } catch (IOException e) {
+                return defaultImage();
+              }
+            })
+        .orElse(defaultImage());
+  }
+
+  private Optional<Path> findProfilePicture(String username) {
+    var profilePictureDirectory = Path.of(this.webGoatHomeDirectory, "PathTraversal", username);
+    if (!Files.isDirectory(profilePictureDirectory)) {
+      return Optional.empty();
+    }
+    try (var files = Files.list(profilePictureDirectory)) {
+      return files
+          .filter(file -> FilenameUtils.isExtension(file.toString(), List.of("jpg", "png")))
+          .findFirst();
+    } catch (IOException e) {
+      return Optional.empty();
     }
   }
 
-  @SneakyThrows
+  private static BasicFileAttributes attributes(Path file) {
+    try {
+      return Files.readAttributes(file, BasicFileAttributes.class);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return the base64 encoded default picture, shared and must not be modified
+   */
   protected byte[] defaultImage() {
-    var inputStream = getClass().getResourceAsStream("/images/account.png");
-    return Base64.getEncoder().encode(FileCopyUtils.copyToByteArray(inputStream));
+    return DEFAULT_IMAGE;
+  }
+
+  private static byte[] loadDefaultImage() {
+    try (var inputStream = ProfileUploadBase.class.getResourceAsStream("/images/account.png")) {
+      return Base64.getEncoder().encode(FileCopyUtils.copyToByteArray(inputStream));
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read the default profile picture", e);
+    }
   }
 }
@@ -9,6 +9,7 @@ import static org.owasp.webgoat.container.assignments.AttackResultBuilder.succes
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -32,6 +33,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -95,9 +97,10 @@ public class ProfileZipSlip extends ProfileUploadBase {
   }
 
   @GetMapping("/PathTraversal/zip-slip/")
-  @ResponseBody
-  public ResponseEntity<?> getProfilePicture(@CurrentUsername String username) {
-    return super.getProfilePicture(username);
+  public void getProfilePicture(
+      @CurrentUsername String username, WebRequest request, HttpServletResponse response)
+      throws IOException {
+    super.getProfilePicture(username, request, response);
   }
 
   @GetMapping("/PathTraversal/zip-slip/profile-image/{username}")
@@ -12,6 +12,7 @@ import com.nulabinc.zxcvbn.Zxcvbn;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import org.owasp.webgoat.container.assignments.AssignmentCost;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AttackResult;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class SecurePasswordsAssignment implements AssignmentEndpoint {
 
   @PostMapping("SecurePasswords/assignment")
+  @AssignmentCost(perUserPerMinute = 60, burst = 20)
   @ResponseBody
   public AttackResult completed(@RequestParam String password) {
     Zxcvbn zxcvbn = new Zxcvbn();
@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.sqlinjection.mitigation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiles the code of the students. Starting javac and opening the JDK modules for every
+ * submission is slow, so the compiler and a few file managers are created once and reused. The
+ * compiled classes are never written, only the diagnostics are returned.
+ *
+ * <p>The diagnostics are cached by a hash of the normalized source, a submission which is sent
+ * again (or only differs in whitespace at the end of the lines) is not compiled again.
+ */
+@Component
+@Slf4j
+public class JavaCompilationService {
+
+  private static final List<String> OPTIONS = List.of("-proc:none");
+
+  private final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+  private final BlockingQueue<StandardJavaFileManager> fileManagers;
+  private final Cache<String, List<String>> diagnostics;
+
+  public JavaCompilationService(
+      @Value("${webgoat.compiler.workers:2}") int workers,
+      @Value("${webgoat.compiler.cache-size:500}") int cacheSize) {
+    this.fileManagers = new ArrayBlockingQueue<>(workers);
+    if (compiler == null) {
+      log.warn("No Java compiler available, the compiler lessons need a JDK to run WebGoat");
+      workers = 0;
+    }
+    for (int i = 0; i < workers; i++) {
+      var fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+      try {
+        // the code of the students only uses the JDK
+        fileManager.setLocation(StandardLocation.CLASS_PATH, List.of());
+      } catch (IOException e) {
+        throw new IllegalStateException("Unable to set up the Java compiler", e);
+      }
+      fileManagers.add(fileManager);
+    }
+    this.diagnostics = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+  }
+
+  @PreDestroy
+  void close() {
+    fileManagers.forEach(
+        fileManager -> {
+          try {
+            fileManager.close();
+          } catch (IOException e) {
+            log.debug("Unable to close file manager", e);
+          }
+        });
+  }
+
+  /**
+   * @param className the name of the public class in the source
+   * @return the messages of the compiler, empty if the source compiles without warnings
+   */
+  public List<String> compile(String className, String source) {
+    if (compiler == null) {
+      throw new IllegalStateException("No Java compiler available");
+    }
+    var normalized = normalize(source);
+    try {
+      return diagnostics.get(
+          hash(className + "\n" + normalized), () -> doCompile(className, normalized));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Unable to compile " + className, e.getCause());
+    }
+  }
+
+  private List<String> doCompile(String className, String source) throws InterruptedException {
+    var fileManager = fileManagers.take();
+    try {
+      var collector = new DiagnosticCollector<JavaFileObject>();
+      compiler
+          .getTask(
+              null,
+              new DiscardingFileManager(fileManager),
+              collector,
+              OPTIONS,
+              null,
+              List.of(new SourceFile(className, source)))
+          .call();
+      return collector.getDiagnostics().stream().map(d -> d.getMessage(null)).toList();
+    } finally {
+      fileManagers.add(fileManager);
+    }
+  }
+
+  private static String normalize(String source) {
+    return source.lines().map(String::stripTrailing).collect(Collectors.joining("\n")).strip();
+  }
+
+  private static String hash(String source) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class SourceFile extends SimpleJavaFileObject {
+    private final String contents;
+
+    SourceFile(String className, String contents) {
+      super(URI.create("string:///" + className + Kind.SOURCE.extension), Kind.SOURCE);
+      this.contents = contents;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return contents;
+    }
+  }
+
+  /** Keeps the compiled classes out of the working directory */
+  private static class DiscardingFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+    DiscardingFileManager(JavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+      return new SimpleJavaFileObject(URI.create("mem:///" + className + kind.extension), kind) {
+        @Override
+        public OutputStream openOutputStream() {
+          return OutputStream.nullOutputStream();
+        }
+      };
+    }
+
+    @Override
+    public void close() {
+      // the wrapped file manager is reused for the next compilation
+    }
+  }
+}
@@ -12,24 +12,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.owasp.webgoat.container.CurrentUsername;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AttackResult;
-import org.springframework.beans.factory.annotation.Value;
+import org.owasp.webgoat.container.mail.MailOutbox;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
 @RestController
 public class MailAssignment implements AssignmentEndpoint {
 
-  private final String webWolfURL;
-  private RestTemplate restTemplate;
+  private final MailOutbox mailOutbox;
 
-  public MailAssignment(
-      RestTemplate restTemplate, @Value("${webwolf.mail.url}") String webWolfURL) {
-    this.restTemplate = restTemplate;
-    this.webWolfURL = webWolfURL;
+  public MailAssignment(MailOutbox mailOutbox) {
+    this.mailOutbox = mailOutbox;
   }
 
   @PostMapping("/WebWolf/mail/send")
@@ -47,13 +42,8 @@ public class MailAssignment implements AssignmentEndpoint {
                       + StringUtils.reverse(username))
               .sender("webgoat@owasp.org")
               .build();
-      try {
-        restTemplate.postForEntity(webWolfURL, mailEvent, Object.class);
-      } catch (RestClientException e) {
-        return informationMessage(this)
-            .feedback("webwolf.email_failed")
-            .output(e.getMessage())
-            .build();
+      if (!mailOutbox.send(mailEvent)) {
+        return informationMessage(this).feedback("webwolf.email_failed").build();
       }
       return informationMessage(this).feedback("webwolf.email_send").feedbackArgs(email).build();
     } else {
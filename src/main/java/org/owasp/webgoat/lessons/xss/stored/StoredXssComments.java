@@ -8,7 +8,7 @@ import static org.owasp.webgoat.container.assignments.AttackResultBuilder.failed
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.success;
 import static org.springframework.http.MediaType.ALL_VALUE;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -16,12 +16,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.owasp.webgoat.container.CurrentUsername;
+import org.owasp.webgoat.container.JsonCodecs;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AttackResult;
+import org.owasp.webgoat.container.lessons.LessonState;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
 import org.owasp.webgoat.lessons.xss.Comment;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,7 +36,7 @@ public class StoredXssComments implements AssignmentEndpoint {
 
   private static final DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd, HH:mm:ss");
 
-  private static final Map<String, List<Comment>> userComments = new HashMap<>();
+  private static final ObjectReader COMMENT_READER = JsonCodecs.readerFor(Comment.class);
   private static final List<Comment> comments = new ArrayList<>();
   private static final String phoneHomeString = "<script>webgoat.customjs.phoneHome()</script>";
 
@@ -54,6 +55,17 @@ public class StoredXssComments implements AssignmentEndpoint {
             "Can you post a comment, calling webgoat.customjs.phoneHome() ?"));
   }
 
+  private final LessonState<Comment> userComments;
+
+  public StoredXssComments(LessonStateStore stateStore) {
+    this.userComments =
+        stateStore.create(
+            "CrossSiteScriptingStored.comments",
+            comment ->
+                LessonStateStore.sizeOf(
+                    comment.getUser(), comment.getDateTime(), comment.getText()));
+  }
+
   @GetMapping(
       path = "/CrossSiteScriptingStored/stored-xss",
       produces = MediaType.APPLICATION_JSON_VALUE,
@@ -61,11 +73,8 @@ public class StoredXssComments implements AssignmentEndpoint {
   @ResponseBody
   public Collection<Comment> retrieveComments(@CurrentUsername String username) {
     List<Comment> allComments = Lists.newArrayList();
-    Collection<Comment> newComments = userComments.get(username);
     allComments.addAll(comments);
-    if (newComments != null) {
-      allComments.addAll(newComments);
-    }
+    allComments.addAll(userComments.values(username));
     Collections.reverse(allComments);
     return allComments;
   }
@@ -76,12 +85,10 @@ public class StoredXssComments implements AssignmentEndpoint {
       @RequestBody String commentStr, @CurrentUsername String username) {
     Comment comment = parseJson(commentStr);
 
-    List<Comment> comments = userComments.getOrDefault(username, new ArrayList<>());
     comment.setDateTime(LocalDateTime.now().format(fmt));
     comment.setUser(username);
 
-    comments.add(comment);
-    userComments.put(username, comments);
+    userComments.add(username, comment);
 
     if (comment.getText().contains(phoneHomeString)) {
       return (success(this).feedback("xss-stored-comment-success").build());
@@ -91,9 +98,8 @@ public class StoredXssComments implements AssignmentEndpoint {
   }
 
   private Comment parseJson(String comment) {
-    ObjectMapper mapper = new ObjectMapper();
     try {
-      return mapper.readValue(comment, Comment.class);
+      return COMMENT_READER.readValue(comment);
     } catch (IOException e) {
       return new Comment();
     }
@@ -14,13 +14,13 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.HashMap;
-import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
 import org.owasp.webgoat.container.assignments.AttackResult;
 import org.owasp.webgoat.container.lessons.Initializable;
+import org.owasp.webgoat.container.lessons.LessonState;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
 import org.owasp.webgoat.container.users.WebGoatUser;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -42,17 +42,24 @@ public class BlindSendFileAssignment implements AssignmentEndpoint, Initializabl
 
   private final String webGoatHomeDirectory;
   private final CommentsCache comments;
-  private final Map<WebGoatUser, String> userToFileContents = new HashMap<>();
+  private final LessonState<String> userToFileContents;
 
   public BlindSendFileAssignment(
-      @Value("${webgoat.user.directory}") String webGoatHomeDirectory, CommentsCache comments) {
+      @Value("${webgoat.user.directory}") String webGoatHomeDirectory,
+      CommentsCache comments,
+      LessonStateStore stateStore) {
     this.webGoatHomeDirectory = webGoatHomeDirectory;
     this.comments = comments;
+    this.userToFileContents =
+        stateStore.create(
+            "XXE.secrets",
+            LessonStateStore::sizeOf,
+            stateStore.getDefaultLimits().withMaxEntriesPerUser(1));
   }
 
-  private void createSecretFileWithRandomContents(WebGoatUser user) {
+  private String createSecretFileWithRandomContents(WebGoatUser user) {
     var fileContents = "WebGoat 8.0 rocks... (" + randomAlphabetic(10) + ")";
-    userToFileContents.put(user, fileContents);
+    userToFileContents.set(user.getUsername(), fileContents);
     File targetDirectory = new File(webGoatHomeDirectory, "/XXE/" + user.getUsername());
     if (!targetDirectory.exists()) {
       targetDirectory.mkdirs();
@@ -62,13 +69,35 @@ public class BlindSendFileAssignment implements AssignmentEndpoint, Initializabl
     } catch (IOException e) {
       log.error("Unable to write 'secret.txt' to '{}", targetDirectory);
     }
+    return fileContents;
+  }
+
+  /**
+   * The secret is removed from the lesson state after the idle timeout, read it again from the file
+   * of the user or create a new one if the file is gone as well.
+   */
+  private String secretOf(WebGoatUser user) {
+    return userToFileContents
+        .latest(user.getUsername())
+        .orElseGet(
+            () -> {
+              var secretFile =
+                  new File(webGoatHomeDirectory, "/XXE/" + user.getUsername() + "/secret.txt");
+              try {
+                var fileContents = Files.readString(secretFile.toPath(), UTF_8);
+                userToFileContents.set(user.getUsername(), fileContents);
+                return fileContents;
+              } catch (IOException e) {
+                return createSecretFileWithRandomContents(user);
+              }
+            });
   }
 
   @PostMapping(path = "xxe/blind", consumes = ALL_VALUE, produces = APPLICATION_JSON_VALUE)
   @ResponseBody
   public AttackResult addComment(
       @RequestBody String commentStr, @AuthenticationPrincipal WebGoatUser user) {
-    var fileContentsForUser = userToFileContents.getOrDefault(user, "");
+    var fileContentsForUser = secretOf(user);
 
     // Solution is posted by the user as a separate comment
     if (commentStr.contains(fileContentsForUser)) {
@@ -90,7 +119,7 @@ public class BlindSendFileAssignment implements AssignmentEndpoint, Initializabl
   @Override
   public void initialize(WebGoatUser user) {
     comments.reset(user);
-    userToFileContents.remove(user);
+    userToFileContents.clear(user.getUsername());
     createSecretFileWithRandomContents(user);
   }
 }
@@ -4,59 +4,113 @@
  */
 package org.owasp.webgoat.lessons.xxe;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import java.io.StringReader;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import javax.xml.XMLConstants;
-import javax.xml.stream.XMLInputFactory;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.xml.stream.XMLStreamException;
+import org.owasp.webgoat.container.lessons.LessonState;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
 import org.owasp.webgoat.container.users.WebGoatUser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+/**
+ * The comments of the XXE lessons. Comments visible for all users are kept in a global timeline,
+ * the other comments in a timeline per user. Every comment gets a sequence number when it is added,
+ * so both timelines are ordered without sorting. A page of comments is read by merging both
+ * timelines from the newest comment backwards until the page is full, the sequence number of the
+ * last comment is the cursor for the next page.
+ */
 @Component
 @Scope("singleton")
 public class CommentsCache {
 
-  static class Comments extends ArrayList<Comment> {
-    void sort() {
-      sort(Comparator.comparing(Comment::getDateTime).reversed());
-    }
-  }
+  /**
+   * @param nextCursor the cursor for the next (older) page, null if there are no older comments
+   */
+  public record Page(List<Comment> comments, Long nextCursor) {}
+
+  private record Entry(long sequence, Comment comment) {}
 
-  private static final Comments comments = new Comments();
-  private static final Map<WebGoatUser, Comments> userComments = new HashMap<>();
   private static final DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd, HH:mm:ss");
 
-  public CommentsCache() {
+  private final AtomicLong sequence = new AtomicLong();
+  private final ConcurrentSkipListMap<Long, Comment> comments = new ConcurrentSkipListMap<>();
+  private final AtomicInteger numberOfComments = new AtomicInteger();
+  private final int maxComments;
+  private final LessonState<Entry> userComments;
+  private final XmlCommentParser xmlParser;
+
+  public CommentsCache(
+      LessonStateStore stateStore,
+      @Value("${webgoat.xxe.comments.max-global:500}") int maxComments,
+      @Value("${webgoat.xxe.parser-pool-size:8}") int parserPoolSize) {
+    this.maxComments = maxComments;
+    this.xmlParser = new XmlCommentParser(parserPoolSize);
+    this.userComments =
+        stateStore.create(
+            "XXE.comments",
+            entry ->
+                LessonStateStore.sizeOf(
+                    entry.comment().getUser(),
+                    entry.comment().getDateTime(),
+                    entry.comment().getText()));
     initDefaultComments();
   }
 
   void initDefaultComments() {
-    comments.add(new Comment("webgoat", LocalDateTime.now().format(fmt), "Silly cat...."));
-    comments.add(
+    addGlobal(new Comment("webgoat", LocalDateTime.now().format(fmt), "Silly cat...."));
+    addGlobal(
         new Comment(
             "guest",
             LocalDateTime.now().format(fmt),
             "I think I will use this picture in one of my projects."));
-    comments.add(new Comment("guest", LocalDateTime.now().format(fmt), "Lol!! :-)."));
+    addGlobal(new Comment("guest", LocalDateTime.now().format(fmt), "Lol!! :-)."));
+  }
+
+  private synchronized void addGlobal(Comment comment) {
+    comments.put(sequence.incrementAndGet(), comment);
+    if (numberOfComments.incrementAndGet() > maxComments && comments.pollFirstEntry() != null) {
+      numberOfComments.decrementAndGet();
+    }
   }
 
-  protected Comments getComments(WebGoatUser user) {
-    Comments allComments = new Comments();
-    Comments commentsByUser = userComments.get(user);
-    if (commentsByUser != null) {
-      allComments.addAll(commentsByUser);
+  /**
+   * @param before only comments older than this cursor, null for the newest comments
+   * @param limit the maximum number of comments
+   * @return the comments of the user and the comments for all users, the newest first
+   */
+  protected Page getComments(WebGoatUser user, Long before, int limit) {
+    var cursor = before == null ? Long.MAX_VALUE : before;
+    var own =
+        userComments.values(user.getUsername()).reversed().stream()
+            .dropWhile(entry -> entry.sequence() >= cursor)
+            .iterator();
+    var global = comments.headMap(cursor, false).descendingMap().entrySet().iterator();
+
+    var page = new ArrayList<Comment>(Math.min(limit, 64));
+    Entry nextOwn = own.hasNext() ? own.next() : null;
+    Map.Entry<Long, Comment> nextGlobal = global.hasNext() ? global.next() : null;
+    long last = cursor;
+    while (page.size() < limit && (nextOwn != null || nextGlobal != null)) {
+      if (nextGlobal == null || (nextOwn != null && nextOwn.sequence() > nextGlobal.getKey())) {
+        page.add(nextOwn.comment());
+        last = nextOwn.sequence();
+        nextOwn = own.hasNext() ? own.next() : null;
+      } else {
+        page.add(nextGlobal.getValue());
+        last = nextGlobal.getKey();
+        nextGlobal = global.hasNext() ? global.next() : null;
+      }
     }
-    allComments.addAll(comments);
-    allComments.sort();
-    return allComments;
+    return new Page(page, nextOwn != null || nextGlobal != null ? last : null);
   }
 
   /**
@@ -67,36 +121,25 @@ public class CommentsCache {
    */
   protected Comment parseXml(String xml, boolean securityEnabled)
       throws XMLStreamException, JAXBException {
-    var jc = JAXBContext.newInstance(Comment.class);
-    var xif = XMLInputFactory.newInstance();
-
-    // TODO fix me disabled for now.
-    if (securityEnabled) {
-      xif.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, ""); // Compliant
-      xif.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, ""); // compliant
-    }
-
-    var xsr = xif.createXMLStreamReader(new StringReader(xml));
-
-    var unmarshaller = jc.createUnmarshaller();
-    return (Comment) unmarshaller.unmarshal(xsr);
+    return xmlParser.parse(xml, securityEnabled);
   }
 
   public void addComment(Comment comment, WebGoatUser user, boolean visibleForAllUsers) {
     comment.setDateTime(LocalDateTime.now().format(fmt));
     comment.setUser(user.getUsername());
     if (visibleForAllUsers) {
-      comments.add(comment);
+      addGlobal(comment);
     } else {
-      var comments = userComments.getOrDefault(user.getUsername(), new Comments());
-      comments.add(comment);
-      userComments.put(user, comments);
+      userComments.add(user.getUsername(), new Entry(sequence.incrementAndGet(), comment));
     }
   }
 
   public void reset(WebGoatUser user) {
-    comments.clear();
-    userComments.remove(user);
+    synchronized (this) {
+      comments.clear();
+      numberOfComments.set(0);
+    }
+    userComments.clear(user.getUsername());
     initDefaultComments();
   }
 }
@@ -4,13 +4,15 @@
  */
 package org.owasp.webgoat.lessons.xxe;
 
-import java.util.Collection;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import org.owasp.webgoat.container.CurrentUser;
 import org.owasp.webgoat.container.users.WebGoatUser;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,11 +21,28 @@ import org.springframework.web.bind.annotation.RestController;
 @AllArgsConstructor
 public class CommentsEndpoint {
 
+  private static final int MAX_LIMIT = 100;
+
   private final CommentsCache comments;
 
+  /**
+   * Returns all comments, the newest first. Paging is opt-in: with {@code limit} at most that many
+   * comments are returned and the {@code X-Next-Cursor} header contains the value of {@code before}
+   * for the next page if there are older comments.
+   */
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   @ResponseBody
-  public Collection<Comment> retrieveComments(@CurrentUser WebGoatUser user) {
-    return comments.getComments(user);
+  public ResponseEntity<List<Comment>> retrieveComments(
+      @CurrentUser WebGoatUser user,
+      @RequestParam(required = false) Long before,
+      @RequestParam(required = false) Integer limit) {
+    var page =
+        comments.getComments(
+            user, before, limit == null ? Integer.MAX_VALUE : Math.clamp(limit, 1, MAX_LIMIT));
+    var response = ResponseEntity.ok();
+    if (page.nextCursor() != null) {
+      response.header("X-Next-Cursor", page.nextCursor().toString());
+    }
+    return response.body(page.comments());
   }
 }
@@ -10,12 +10,13 @@ import static org.owasp.webgoat.container.assignments.AttackResultBuilder.failed
 import static org.owasp.webgoat.container.assignments.AttackResultBuilder.success;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import java.io.IOException;
 import java.util.Optional;
 import org.apache.commons.exec.OS;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.owasp.webgoat.container.CurrentUser;
+import org.owasp.webgoat.container.JsonCodecs;
 import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
 import org.owasp.webgoat.container.assignments.AssignmentHints;
 import org.owasp.webgoat.container.assignments.AttackResult;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 @AssignmentHints({"xxe.hints.content.type.xxe.1", "xxe.hints.content.type.xxe.2"})
 public class ContentTypeAssignment implements AssignmentEndpoint {
 
+  private static final ObjectReader COMMENT_READER = JsonCodecs.readerFor(Comment.class);
   private static final String[] DEFAULT_LINUX_DIRECTORIES = {"usr", "etc", "var"};
   private static final String[] DEFAULT_WINDOWS_DIRECTORIES = {
     "Windows", "Program Files (x86)", "Program Files", "pagefile.sys"
@@ -72,9 +74,8 @@ public class ContentTypeAssignment implements AssignmentEndpoint {
   }
 
   protected Optional<Comment> parseJson(String comment) {
-    ObjectMapper mapper = new ObjectMapper();
     try {
-      return of(mapper.readValue(comment, Comment.class));
+      return of(COMMENT_READER.readValue(comment));
     } catch (IOException e) {
       return empty();
     }
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.xxe;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import java.io.StringReader;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+
+/**
+ * Parses the XML comments of the XXE lessons. Creating a {@link JAXBContext} takes milliseconds, so
+ * it is created once. Factories and unmarshallers are not thread safe, a parser (factory and
+ * unmarshaller) is taken from a pool for every parse and returned afterwards. The secure and the
+ * insecure parsers have their own pool, so a parser is never reconfigured.
+ */
+class XmlCommentParser {
+
+  private final JAXBContext context;
+  private final Pool secure;
+  private final Pool insecure;
+
+  XmlCommentParser(int poolSize) {
+    try {
+      this.context = JAXBContext.newInstance(Comment.class);
+    } catch (JAXBException e) {
+      throw new IllegalStateException("Unable to create the JAXB context for comments", e);
+    }
+    this.secure = new Pool(true, poolSize);
+    this.insecure = new Pool(false, poolSize);
+  }
+
+  Comment parse(String xml, boolean securityEnabled) throws XMLStreamException, JAXBException {
+    var pool = securityEnabled ? secure : insecure;
+    var parser = pool.take();
+    var reader = parser.factory().createXMLStreamReader(new StringReader(xml));
+    try {
+      var comment = (Comment) parser.unmarshaller().unmarshal(reader);
+      pool.release(parser);
+      return comment;
+    } finally {
+      reader.close();
+    }
+  }
+
+  private record Parser(XMLInputFactory factory, Unmarshaller unmarshaller) {}
+
+  private class Pool {
+    private final Queue<Parser> parsers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final boolean securityEnabled;
+    private final int maxSize;
+
+    Pool(boolean securityEnabled, int maxSize) {
+      this.securityEnabled = securityEnabled;
+      this.maxSize = maxSize;
+    }
+
+    Parser take() throws JAXBException {
+      var parser = parsers.poll();
+      if (parser != null) {
+        size.decrementAndGet();
+        return parser;
+      }
+      var factory = XMLInputFactory.newInstance();
+      if (securityEnabled) {
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, ""); // Compliant
+        factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, ""); // compliant
+      }
+      return new Parser(factory, context.createUnmarshaller());
+    }
+
+    /** Only parsers which did not fail are returned, the pool keeps at most {@code maxSize} */
+    void release(Parser parser) {
+      if (size.incrementAndGet() <= maxSize) {
+        parsers.offer(parser);
+      } else {
+        size.decrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.server;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.owasp.webgoat.container.LessonResourceScanner;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Build step (see the exec-maven-plugin in pom.xml) which writes the index of all static lesson
+ * resources, during startup the {@link LessonResourceScanner} reads this index instead of scanning
+ * the classpath.
+ */
+@Slf4j
+public class LessonResourceIndexer {
+
+  public static void main(String[] args) throws IOException {
+    var index = Path.of(args[0]);
+    var lessonByResource = LessonResourceScanner.scan(new PathMatchingResourcePatternResolver());
+    Files.createDirectories(index.getParent());
+    Files.writeString(
+        index, LessonResourceScanner.format(lessonByResource), StandardCharsets.UTF_8);
+    log.info("Indexed {} lesson resources in {}", lessonByResource.size(), index);
+  }
+}
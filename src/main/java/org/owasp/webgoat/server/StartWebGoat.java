@@ -4,37 +4,147 @@
  */
 package org.owasp.webgoat.server;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.owasp.webgoat.container.WebGoat;
 import org.owasp.webgoat.webwolf.WebWolf;
+import org.springframework.aot.AotDetector;
 import org.springframework.boot.ResourceBanner;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.aot.AotApplicationContextInitializer;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ClassPathResource;
 
 @Slf4j
 public class StartWebGoat {
 
+  /**
+   * Starts WebWolf and WebGoat at the same time, use --webgoat.startup.parallel=true or the
+   * environment variable WEBGOAT_STARTUP_PARALLEL=true
+   */
+  static final String PARALLEL_STARTUP = "webgoat.startup.parallel";
+
+  /**
+   * Stops WebGoat directly after it started, used as training run for the class data sharing
+   * archive (see the aot profile in pom.xml)
+   */
+  static final String EXIT_AFTER_STARTUP = "webgoat.startup.exit";
+
   public static void main(String[] args) {
+    var startup = new StartupTimer();
     var parentBuilder =
-        new SpringApplicationBuilder().parent(ParentConfig.class).web(WebApplicationType.NONE);
-    parentBuilder
-        .child(WebWolf.class)
-        .banner(new ResourceBanner(new ClassPathResource("banner-webwolf.txt")))
-        .web(WebApplicationType.SERVLET)
-        .run(args);
-
-    ApplicationContext webGoatContext =
-        parentBuilder
-            .child(WebGoat.class)
-            .banner(new ResourceBanner(new ClassPathResource("banner-webgoat.txt")))
-            .web(WebApplicationType.SERVLET)
-            .run(args);
+        aot(
+            new SpringApplicationBuilder().parent(ParentConfig.class).web(WebApplicationType.NONE),
+            ParentConfig.class,
+            "Parent");
+    // Both children need the parent, start it upfront so they do not race to create it
+    startup.time("Parent", () -> parentBuilder.run(args));
+
+    var webWolfBuilder =
+        aot(
+            parentBuilder
+                .child(WebWolf.class)
+                .banner(new ResourceBanner(new ClassPathResource("banner-webwolf.txt")))
+                .web(WebApplicationType.SERVLET),
+            WebWolf.class,
+            "WebWolf");
+    var webGoatBuilder =
+        aot(
+            parentBuilder
+                .child(WebGoat.class)
+                .banner(new ResourceBanner(new ClassPathResource("banner-webgoat.txt")))
+                .web(WebApplicationType.SERVLET),
+            WebGoat.class,
+            "WebGoat");
 
+    var parallel = isEnabled(args, PARALLEL_STARTUP);
+    ApplicationContext webGoatContext;
+    if (parallel) {
+      webGoatContext = startInParallel(startup, webWolfBuilder, webGoatBuilder, args);
+    } else {
+      startup.time("WebWolf", () -> webWolfBuilder.run(args));
+      webGoatContext = startup.time("WebGoat", () -> webGoatBuilder.run(args));
+    }
+
+    startup.printSummary(
+        (parallel ? "parallel" : "sequential")
+            + (AotDetector.useGeneratedArtifacts() ? ", aot" : ""));
+    if (isEnabled(args, EXIT_AFTER_STARTUP)) {
+      webWolfBuilder.context().close();
+      webGoatBuilder.context().close();
+      parentBuilder.context().close();
+      System.exit(0);
+    }
     printStartUpMessage(webGoatContext);
   }
 
+  static boolean isEnabled(String[] args, String property) {
+    var environment = new StandardEnvironment();
+    environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+    return environment.getProperty(property, Boolean.class, false);
+  }
+
+  /**
+   * With -Dspring.aot.enabled=true the bean definitions generated during the build by the {@link
+   * StartupAotProcessor} are used instead of scanning the classpath and evaluating the conditions.
+   */
+  private static SpringApplicationBuilder aot(
+      SpringApplicationBuilder builder, Class<?> source, String name) {
+    if (AotDetector.useGeneratedArtifacts()) {
+      builder.initializers(
+          AotApplicationContextInitializer.forInitializerClasses(
+              StartupAotProcessor.initializerClassName(source, name)));
+    }
+    return builder;
+  }
+
+  /**
+   * WebWolf and WebGoat only share the parent context and the database. WebWolf does not run
+   * migrations (spring.flyway.enabled=false) and only accesses the tables after startup, so there
+   * is no ordering needed between the two. If one of them fails the other one is closed as well.
+   */
+  private static ApplicationContext startInParallel(
+      StartupTimer startup,
+      SpringApplicationBuilder webWolfBuilder,
+      SpringApplicationBuilder webGoatBuilder,
+      String[] args) {
+    try (var executor =
+        Executors.newFixedThreadPool(2, Thread.ofPlatform().name("startup-", 0).factory())) {
+      var webWolf =
+          CompletableFuture.supplyAsync(
+              () -> startup.time("WebWolf", () -> webWolfBuilder.run(args)), executor);
+      var webGoat =
+          CompletableFuture.supplyAsync(
+              () -> startup.time("WebGoat", () -> webGoatBuilder.run(args)), executor);
+      try {
+        CompletableFuture.allOf(webWolf, webGoat).join();
+        return webGoat.join();
+      } catch (CompletionException e) {
+        CompletableFuture.allOf(webWolf, webGoat).exceptionally(t -> null).join();
+        closeIfStarted(webWolf);
+        closeIfStarted(webGoat);
+        throw e.getCause() instanceof RuntimeException r ? r : e;
+      }
+    }
+  }
+
+  private static void closeIfStarted(CompletableFuture<ConfigurableApplicationContext> context) {
+    if (!context.isCompletedExceptionally()) {
+      context.join().close();
+    }
+  }
+
   private static void printStartUpMessage(ApplicationContext webGoatContext) {
     var url = webGoatContext.getEnvironment().getProperty("webgoat.url");
     var sslEnabled =
@@ -43,4 +153,32 @@ public class StartWebGoat {
         "Please browse to " + "{} to start using WebGoat...",
         sslEnabled ? url.replace("http", "https") : url);
   }
+
+  /** Records how long each phase of the startup took, phases may run concurrently. */
+  static class StartupTimer {
+
+    private final long start = System.nanoTime();
+    private final List<String> phases = new ArrayList<>();
+
+    <T> T time(String phase, Supplier<T> action) {
+      var phaseStart = System.nanoTime();
+      try {
+        return action.get();
+      } finally {
+        var took = Duration.ofNanos(System.nanoTime() - phaseStart);
+        synchronized (phases) {
+          phases.add("%s %d ms".formatted(phase, took.toMillis()));
+        }
+      }
+    }
+
+    void printSummary(String mode) {
+      var total = Duration.ofNanos(System.nanoTime() - start);
+      String summary;
+      synchronized (phases) {
+        summary = phases.stream().collect(Collectors.joining(", "));
+      }
+      log.info("Startup ({}) took {} ms: {}", mode, total.toMillis(), summary);
+    }
+  }
 }
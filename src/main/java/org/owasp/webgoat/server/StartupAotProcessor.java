@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.owasp.webgoat.container.WebGoat;
+import org.owasp.webgoat.webwolf.WebWolf;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.FileSystemGeneratedFiles;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringApplication.AbandonedRunException;
+import org.springframework.boot.SpringApplicationRunListener;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.javapoet.ClassName;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Build step (see the aot profile in pom.xml) which runs the Spring AOT processing for the parent,
+ * WebWolf and WebGoat contexts. The spring-boot-maven-plugin only supports a single application
+ * context, here every context gets its own name so the generated bean definitions of auto
+ * configurations used by both WebWolf and WebGoat do not overwrite each other.
+ *
+ * <p>Start WebGoat with -Dspring.aot.enabled=true to use the generated initializers.
+ */
+@Slf4j
+public class StartupAotProcessor {
+
+  private record Application(String name, Class<?> source, WebApplicationType type) {}
+
+  private static final List<Application> APPLICATIONS =
+      List.of(
+          new Application("Parent", ParentConfig.class, WebApplicationType.NONE),
+          new Application("WebWolf", WebWolf.class, WebApplicationType.SERVLET),
+          new Application("WebGoat", WebGoat.class, WebApplicationType.SERVLET));
+
+  /**
+   * @param args the directory for the generated files (cleared first) and the class output
+   *     directory, the generated sources are compiled by the build, the generated classes and
+   *     resources are copied into the class output directory
+   */
+  public static void main(String[] args) throws IOException {
+    var generated = Path.of(args[0]);
+    var classOutput = Path.of(args[1]);
+    FileSystemUtils.deleteRecursively(generated);
+    var sources = generated.resolve("sources");
+    var classes = generated.resolve("classes");
+    var generatedFiles =
+        new FileSystemGeneratedFiles(kind -> kind == Kind.SOURCE ? sources : classes);
+
+    System.setProperty("spring.aot.processing", "true");
+    try {
+      for (var application : APPLICATIONS) {
+        var context = prepare(application);
+        var generationContext =
+            new DefaultGenerationContext(
+                    new ClassNameGenerator(ClassName.get(application.source())), generatedFiles)
+                .withName(application.name());
+        var initializer =
+            new ApplicationContextAotGenerator().processAheadOfTime(context, generationContext);
+        if (!initializer
+            .reflectionName()
+            .equals(initializerClassName(application.source(), application.name()))) {
+          throw new IllegalStateException("Unexpected initializer " + initializer);
+        }
+        generationContext.writeGeneratedContent();
+        log.info("Generated {} for {}", initializer, application.name());
+      }
+    } finally {
+      System.clearProperty("spring.aot.processing");
+    }
+    if (Files.isDirectory(classes)) {
+      FileSystemUtils.copyRecursively(classes, classOutput);
+    }
+  }
+
+  /**
+   * @return the name of the generated initializer for the context, see {@link
+   *     DefaultGenerationContext#withName(String)}
+   */
+  static String initializerClassName(Class<?> source, String name) {
+    return source.getName() + "__" + name + "ApplicationContextInitializer";
+  }
+
+  /** Runs the application up to the point where the bean definitions are loaded. */
+  private static GenericApplicationContext prepare(Application application) {
+    try {
+      SpringApplication.withHook(
+          springApplication ->
+              new SpringApplicationRunListener() {
+                @Override
+                public void contextLoaded(ConfigurableApplicationContext context) {
+                  throw new AbandonedRunException(context);
+                }
+              },
+          () -> new SpringApplicationBuilder(application.source()).web(application.type()).run());
+    } catch (AbandonedRunException e) {
+      return (GenericApplicationContext) e.getApplicationContext();
+    }
+    throw new IllegalStateException("No application context available for " + application.name());
+  }
+}
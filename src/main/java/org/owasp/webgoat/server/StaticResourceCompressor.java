@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Build step (see the exec-maven-plugin in pom.xml) which writes a gzip compressed variant next to
+ * every compressible static resource. At runtime the {@code EncodedResourceResolver} configured in
+ * the {@code MvcConfiguration} serves the ".gz" file to browsers which accept gzip, so compression
+ * happens once during the build instead of never or on every request.
+ */
+@Slf4j
+public class StaticResourceCompressor {
+
+  private static final Set<String> COMPRESSIBLE_EXTENSIONS =
+      Set.of("js", "css", "svg", "json", "map", "txt", "xml", "ttf", "eot", "otf");
+
+  /** Below this size the gzip header and the extra file lookup are not worth it. */
+  private static final long MIN_SIZE = 1024;
+
+  public static void main(String[] args) throws IOException {
+    for (var directory : args) {
+      var compressed = compress(Path.of(directory));
+      log.info("Pre-compressed {} static resources in {}", compressed, directory);
+    }
+  }
+
+  /**
+   * Compresses all resources below the given directory, resources with an up-to-date ".gz" file are
+   * skipped.
+   *
+   * @return the number of resources which have a compressed variant
+   */
+  static int compress(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return 0;
+    }
+    try (var files = Files.walk(directory)) {
+      var candidates =
+          files
+              .filter(Files::isRegularFile)
+              .filter(StaticResourceCompressor::isCompressible)
+              .toList();
+      int compressed = 0;
+      for (var file : candidates) {
+        if (gzip(file)) {
+          compressed++;
+        }
+      }
+      return compressed;
+    }
+  }
+
+  private static boolean isCompressible(Path file) {
+    var fileName = file.getFileName().toString();
+    var extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+    try {
+      return COMPRESSIBLE_EXTENSIONS.contains(extension) && Files.size(file) >= MIN_SIZE;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static boolean gzip(Path file) throws IOException {
+    var target = file.resolveSibling(file.getFileName() + ".gz");
+    if (Files.exists(target)
+        && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(file)) >= 0) {
+      return true;
+    }
+    var content = Files.readAllBytes(file);
+    var bytes = new ByteArrayOutputStream(content.length / 2);
+    try (var gzip =
+        new GZIPOutputStream(bytes) {
+          {
+            def.setLevel(Deflater.BEST_COMPRESSION);
+          }
+        }) {
+      gzip.write(content);
+    }
+    if (bytes.size() >= content.length) {
+      // already compressed content, serving the original is cheaper
+      Files.deleteIfExists(target);
+      return false;
+    }
+    Files.write(target, bytes.toByteArray());
+    return true;
+  }
+}
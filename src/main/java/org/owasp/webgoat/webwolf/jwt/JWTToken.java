@@ -8,10 +8,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.springframework.util.StringUtils.hasText;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Base64;
 import java.util.Map;
-import java.util.TreeMap;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,6 +22,7 @@ import org.jose4j.jwt.consumer.JwtConsumerBuilder;
 import org.jose4j.jwx.CompactSerializer;
 import org.jose4j.keys.HmacKey;
 import org.jose4j.lang.JoseException;
+import org.owasp.webgoat.container.JsonCodecs;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -47,21 +46,19 @@ public class JWTToken {
   }
 
   private static Map<String, Object> parse(String header) {
-    var reader = new ObjectMapper();
     try {
-      return reader.readValue(header, TreeMap.class);
+      return JsonCodecs.SORTED_MAP_READER.readValue(header);
     } catch (JsonProcessingException e) {
       return Map.of();
     }
   }
 
   private static String write(String originalValue, Map<String, Object> data) {
-    var writer = new ObjectMapper().writerWithDefaultPrettyPrinter();
     try {
       if (data.isEmpty()) {
         return originalValue;
       }
-      return writer.writeValueAsString(data);
+      return JsonCodecs.PRETTY_WRITER.writeValueAsString(data);
     } catch (JsonProcessingException e) {
       return originalValue;
     }
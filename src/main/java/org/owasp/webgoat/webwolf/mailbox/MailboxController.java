@@ -43,6 +43,13 @@ public class MailboxController {
     mailboxRepository.save(email);
   }
 
+  /** Used by the mail outbox of WebGoat to deliver multiple mails with one request */
+  @PostMapping("/mail/batch")
+  @ResponseStatus(HttpStatus.CREATED)
+  public void sendEmails(@RequestBody List<Email> emails) {
+    mailboxRepository.saveAll(emails);
+  }
+
   @DeleteMapping("/mail")
   @ResponseStatus(HttpStatus.ACCEPTED)
   public void deleteAllMail() {
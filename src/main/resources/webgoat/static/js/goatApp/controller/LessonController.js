@@ -112,7 +112,7 @@ define(['jquery',
                     this.lessonHintView.stopListening();
                     this.lessonHintView = null;
                 }
-                this.lessonHintView = new HintView();
+                this.lessonHintView = new HintView({lessonName: this.name});
             }
 
             this.addCurHelpState = function (curHelp) {
@@ -9,9 +9,12 @@ define(['jquery',
 	HintModel) {
 		return Backbone.Collection.extend({
 			model: HintModel,
-			url:'service/hint.mvc',
-			initialize: function (options) {
+			url: function() {
+				return 'service/hint.mvc/' + encodeURIComponent(this.lessonName);
+			},
+			initialize: function (models, options) {
 				var self = this;
+				this.lessonName = options.lessonName;
 				this.fetch().then(function (data) {
 					this.models = data;
 					self.onDataLoaded();
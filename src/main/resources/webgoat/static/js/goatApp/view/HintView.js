@@ -12,9 +12,9 @@ function($,
 			"click #show-next-hint": "showNextHint",
 			"click #show-prev-hint": "showPrevHint"
 		},
-		initialize: function() {
+		initialize: function(options) {
 			this.curHint=0;
-			this.collection = new HintCollection();
+			this.collection = new HintCollection([], {lessonName: options.lessonName});
 			this.hintsToShow = new Array();
 			this.listenTo(this.collection,'loaded',this.onModelLoaded);
 			this.hideHints();
@@ -113,7 +113,7 @@ function($,
             if(this.hintsToShow.length == 0) {
                // this.hideHints();
             } else {
-                this.$el.find('#lesson-hint-content').html(polyglot.t(this.hintsToShow[curHint]));
+                this.$el.find('#lesson-hint-content').html(this.hintsToShow[curHint]);
             }
 		},
 
@@ -13,6 +13,7 @@ js/main.js << main file for require.js
 /**
  * Main configuration for RequireJS. Referred to from Spring MVC /start.mvc using main_new.html template.
  * baseURL is the base path of all JavaScript libraries.
+ * The fingerprinted path of every module is set by main_new.html (webgoatModulePaths), the aliases below use them as well.
  * paths refers to the JavaScript Libraries that we want to use. A name and relative path is used. Extension .js is not required.
  *
  * jquery is a library that can easily access all objects on the HTML page.
@@ -21,20 +22,24 @@ js/main.js << main file for require.js
  * backbone contains models, events, key value bindings. Depends on jQuery and underscore
  * polyglot is a tiny i18n helper library
  */
+function fingerprinted(module) {
+  return (window.webgoatModulePaths && window.webgoatModulePaths[module]) || module;
+}
+
 require.config({
   baseUrl: "js/",
   paths: {
-    jquery: 'libs/jquery.min',
-    jqueryvuln: 'libs/jquery-2.1.4.min',
-    jqueryuivuln: 'libs/jquery-ui-1.10.4',
-    jqueryui: 'libs/jquery-ui.min',
-    underscore: 'libs/underscore-min',
-    backbone: 'libs/backbone-min',
-    bootstrap: 'libs/bootstrap.min',
-    text: 'libs/text',
+    jquery: fingerprinted('libs/jquery.min'),
+    jqueryvuln: fingerprinted('libs/jquery-2.1.4.min'),
+    jqueryuivuln: fingerprinted('libs/jquery-ui-1.10.4'),
+    jqueryui: fingerprinted('libs/jquery-ui.min'),
+    underscore: fingerprinted('libs/underscore-min'),
+    backbone: fingerprinted('libs/backbone-min'),
+    bootstrap: fingerprinted('libs/bootstrap.min'),
+    text: fingerprinted('libs/text'),
     templates: 'goatApp/templates',
-    polyglot: 'libs/polyglot.min',
-    search: 'search'
+    polyglot: fingerprinted('libs/polyglot.min'),
+    search: fingerprinted('search')
   },
 
   deps: ['search'],
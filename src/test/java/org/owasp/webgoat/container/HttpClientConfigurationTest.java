@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.owasp.webgoat.container.plugins.LessonTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class HttpClientConfigurationTest extends LessonTest {
+
+  @Autowired private RestTemplate restTemplate;
+  @Autowired private MeterRegistry meterRegistry;
+  private WireMockServer server;
+
+  @BeforeEach
+  void startServer() {
+    server = new WireMockServer(options().dynamicPort());
+    server.start();
+    server.stubFor(get("/ping").willReturn(aResponse().withStatus(200).withBody("pong")));
+  }
+
+  @AfterEach
+  void stopServer() {
+    server.stop();
+  }
+
+  @Test
+  void restTemplateShouldUsePooledClient() {
+    assertThat(restTemplate.getRequestFactory())
+        .isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+  }
+
+  @Test
+  void callsShouldBeMeasuredPerHost() {
+    restTemplate.getForObject(server.url("/ping"), String.class);
+
+    var timer =
+        meterRegistry
+            .find("http.client.requests")
+            .tag("client.name", "localhost")
+            .tag("outcome", "SUCCESS")
+            .timer();
+    assertThat(timer).isNotNull();
+    assertThat(timer.count()).isPositive();
+  }
+}
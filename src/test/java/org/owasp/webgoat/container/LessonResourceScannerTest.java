@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+class LessonResourceScannerTest {
+
+  private final PathMatchingResourcePatternResolver resolver =
+      new PathMatchingResourcePatternResolver();
+
+  @Test
+  void shouldFindLessonOfResource() {
+    var scanner = new LessonResourceScanner(resolver);
+
+    assertThat(scanner.findLesson("js", "jwt-voting.js")).isEqualTo("jwt");
+    assertThat(scanner.findLesson("js", "does-not-exist.js")).isNull();
+  }
+
+  @Test
+  void firstLessonShouldWinForDuplicateResources() {
+    var lessonByResource = LessonResourceScanner.scan(resolver);
+
+    assertThat(lessonByResource).containsEntry("js/credentials.js", "insecurelogin");
+    assertThat(lessonByResource.keySet()).noneMatch(resource -> resource.endsWith(".gz"));
+  }
+
+  @Test
+  void indexShouldBeTheSameAsScanning() throws IOException {
+    var index = resolver.getResource(LessonResourceScanner.INDEX_LOCATION);
+    assertThat(index.exists()).isTrue();
+
+    assertThat(index.getContentAsString(StandardCharsets.UTF_8))
+        .isEqualTo(LessonResourceScanner.format(LessonResourceScanner.scan(resolver)));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.owasp.webgoat.container.plugins.LessonTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+class StaticResourcesTest extends LessonTest {
+
+  @Autowired private ResourceUrlProvider resourceUrlProvider;
+  @Autowired private RequireJsPaths requireJsPaths;
+
+  @Test
+  void resourceWithoutFingerprintShouldBeRevalidated() throws Exception {
+    mockMvc
+        .perform(get("/css/main.css"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Cache-Control", "no-cache"));
+  }
+
+  @Test
+  void fingerprintedResourceShouldBeCachedForever() throws Exception {
+    var url = resourceUrlProvider.getForLookupPath("/css/main.css");
+    assertThat(url).matches("/css/main-[0-9a-f]{32}\\.css");
+
+    mockMvc
+        .perform(get(url))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Cache-Control", CoreMatchers.containsString("immutable")))
+        .andExpect(
+            header().string("Cache-Control", CoreMatchers.containsString("max-age=31536000")));
+  }
+
+  @Test
+  void compressedVariantShouldBeServedWhenAccepted() throws Exception {
+    mockMvc
+        .perform(get("/css/main.css").header("Accept-Encoding", "gzip"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Encoding", "gzip"));
+  }
+
+  @Test
+  void lessonResourcesShouldBeFingerprinted() throws Exception {
+    var url = resourceUrlProvider.getForLookupPath("/lesson_js/jwt-voting.js");
+    assertThat(url).matches("/lesson_js/jwt-voting-[0-9a-f]{32}\\.js");
+
+    mockMvc.perform(get(url)).andExpect(status().isOk());
+  }
+
+  @Test
+  void requireJsModulesShouldBeFingerprinted() throws Exception {
+    var paths = requireJsPaths.paths();
+    assertThat(paths.get("goatApp/goatApp")).matches("goatApp/goatApp-[0-9a-f]{32}");
+    assertThat(paths.get("libs/jquery.min")).matches("libs/jquery.min-[0-9a-f]{32}");
+
+    mockMvc
+        .perform(get("/js/" + paths.get("goatApp/goatApp") + ".js"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Cache-Control", CoreMatchers.containsString("immutable")));
+  }
+
+  @Test
+  void lessonTemplatesShouldBeServed() throws Exception {
+    mockMvc.perform(get("/lesson_templates/hijackform.html")).andExpect(status().isOk());
+  }
+
+  @Test
+  void unknownLessonResourceShouldNotBeFound() throws Exception {
+    mockMvc.perform(get("/lesson_js/does-not-exist.js")).andExpect(status().isNotFound());
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.assignments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class AssignmentCostInterceptorTest {
+
+  static class Endpoint {
+    @AssignmentCost(concurrency = 1, queue = 0, perUserPerMinute = 1, burst = 2)
+    public void expensive() {}
+
+    public void cheap() {}
+  }
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AssignmentCostInterceptor interceptor =
+      new AssignmentCostInterceptor(meterRegistry, true);
+
+  private static HandlerMethod handler(String method) throws NoSuchMethodException {
+    return new HandlerMethod(new Endpoint(), method);
+  }
+
+  private static MockHttpServletRequest request(String user) {
+    var request = new MockHttpServletRequest();
+    request.setUserPrincipal(() -> user);
+    return request;
+  }
+
+  private boolean call(MockHttpServletRequest request, MockHttpServletResponse response)
+      throws Exception {
+    var handler = handler("expensive");
+    var allowed = interceptor.preHandle(request, response, handler);
+    if (allowed) {
+      interceptor.afterCompletion(request, response, handler, null);
+    }
+    return allowed;
+  }
+
+  @Test
+  void userShouldBeLimitedAfterBurst() throws Exception {
+    assertThat(call(request("tom"), new MockHttpServletResponse())).isTrue();
+    assertThat(call(request("tom"), new MockHttpServletResponse())).isTrue();
+
+    var response = new MockHttpServletResponse();
+    assertThat(call(request("tom"), response)).isFalse();
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(Integer.parseInt(response.getHeader("Retry-After"))).isBetween(1, 61);
+    assertThat(
+            meterRegistry
+                .counter(
+                    "webgoat.assignment.rejected",
+                    "endpoint",
+                    "Endpoint.expensive",
+                    "reason",
+                    "rate")
+                .count())
+        .isEqualTo(1);
+
+    assertThat(call(request("jerry"), new MockHttpServletResponse())).isTrue();
+  }
+
+  @Test
+  void concurrentRequestsShouldBeLimited() throws Exception {
+    var handler = handler("expensive");
+    var running = request("tom");
+    assertThat(interceptor.preHandle(running, new MockHttpServletResponse(), handler)).isTrue();
+
+    var response = new MockHttpServletResponse();
+    assertThat(interceptor.preHandle(request("jerry"), response, handler)).isFalse();
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+
+    interceptor.afterCompletion(running, new MockHttpServletResponse(), handler, null);
+    assertThat(call(request("jerry"), new MockHttpServletResponse())).isTrue();
+  }
+
+  @Test
+  void concurrencyRejectionShouldNotUseAToken() throws Exception {
+    var handler = handler("expensive");
+    var running = request("tom");
+    assertThat(interceptor.preHandle(running, new MockHttpServletResponse(), handler)).isTrue();
+    assertThat(interceptor.preHandle(request("jerry"), new MockHttpServletResponse(), handler))
+        .isFalse();
+    interceptor.afterCompletion(running, new MockHttpServletResponse(), handler, null);
+
+    assertThat(call(request("jerry"), new MockHttpServletResponse())).isTrue();
+    assertThat(call(request("jerry"), new MockHttpServletResponse())).isTrue();
+  }
+
+  @Test
+  void leastRecentlyUsedBucketShouldBeRemoved() throws Exception {
+    var small = new AssignmentCostInterceptor(meterRegistry, true, 2);
+    assertThat(call(small, "jerry")).isTrue();
+    assertThat(call(small, "jerry")).isTrue();
+    assertThat(call(small, "tom")).isTrue();
+    assertThat(call(small, "jerry")).isFalse();
+
+    // jerry was used after tom, adding the bucket of anna removes the bucket of tom
+    assertThat(call(small, "anna")).isTrue();
+
+    assertThat(call(small, "jerry")).isFalse();
+  }
+
+  private static boolean call(AssignmentCostInterceptor interceptor, String user) throws Exception {
+    var handler = handler("expensive");
+    var request = request(user);
+    var allowed = interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+    if (allowed) {
+      interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+    }
+    return allowed;
+  }
+
+  @Test
+  void endpointsWithoutCostShouldNotBeLimited() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      assertThat(
+              interceptor.preHandle(
+                  request("tom"), new MockHttpServletResponse(), handler("cheap")))
+          .isTrue();
+    }
+  }
+
+  @Test
+  void disabledInterceptorShouldNotLimit() throws Exception {
+    var disabled = new AssignmentCostInterceptor(meterRegistry, false);
+    for (int i = 0; i < 10; i++) {
+      assertThat(
+              disabled.preHandle(
+                  request("tom"), new MockHttpServletResponse(), handler("expensive")))
+          .isTrue();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.assignments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.apache.commons.text.StringEscapeUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JsonEscaperTest {
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "assignment.solved",
+        "<table><tr><td>userid</td></tr></table>",
+        "He said \"hi\" \\ bye",
+        "line 1\nline 2\r\n\ttab\b\f",
+        "\u0000\u001f\u007f",
+        "Glückwunsch €",
+        "emoji 🐐 goat"
+      })
+  void shouldEscapeLikeCommonsText(String input) {
+    assertThat(JsonEscaper.escape(input)).isEqualTo(StringEscapeUtils.escapeJson(input));
+  }
+
+  @Test
+  void shouldEscapeRandomInputLikeCommonsText() {
+    var random = new Random(42);
+    for (int i = 0; i < 1_000; i++) {
+      var chars = new char[random.nextInt(64)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = (char) random.nextInt(random.nextBoolean() ? 0x80 : 0x10000);
+      }
+      var input = new String(chars);
+      assertThat(JsonEscaper.escape(input)).isEqualTo(StringEscapeUtils.escapeJson(input));
+    }
+  }
+
+  @Test
+  void shouldEscapeDeleteLikeCommonsText() {
+    assertThat(JsonEscaper.escape("a\u007fb")).isEqualTo("a\\u007Fb");
+    assertThat(StringEscapeUtils.escapeJson("a\u007fb")).isEqualTo("a\\u007Fb");
+  }
+
+  @Test
+  void shouldReturnSameInstanceWhenNothingNeedsEscaping() {
+    var input = "<table><tr><td>101</td><td>Joe</td></tr></table>".replace("/", "");
+    assertThat(JsonEscaper.escape(input)).isSameAs(input);
+  }
+
+  @Test
+  void shouldHandleNull() {
+    assertThat(JsonEscaper.escape(null)).isNull();
+  }
+}
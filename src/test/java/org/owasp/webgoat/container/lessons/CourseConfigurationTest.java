@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.owasp.webgoat.container.assignments.AssignmentEndpoint;
+
+class CourseConfigurationTest {
+
+  private static class TestLesson extends Lesson {
+    @Override
+    protected Category getDefaultCategory() {
+      return Category.GENERAL;
+    }
+
+    @Override
+    public String getTitle() {
+      return "test";
+    }
+  }
+
+  private static class TestAssignment implements AssignmentEndpoint {}
+
+  @Test
+  void shouldAttachAssignmentToLesson() {
+    var lesson = new TestLesson();
+    var configuration = new CourseConfiguration(List.of(lesson), null, "/WebGoat");
+
+    configuration.attachToLessons(
+        List.of(TestAssignment.class),
+        List.of(
+            new AssignmentRegistration(
+                TestAssignment.class, TestLesson.class, "/test/attack", List.of("hint1"))));
+
+    assertThat(lesson.getAssignments())
+        .singleElement()
+        .satisfies(
+            assignment -> {
+              assertThat(assignment.getName()).isEqualTo("TestAssignment");
+              assertThat(assignment.getPath()).isEqualTo("/WebGoat/test/attack");
+              assertThat(assignment.getHints()).containsExactly("hint1");
+            });
+  }
+
+  @Test
+  void shouldFailWhenAssignmentIsNotInRegistry() {
+    var configuration = new CourseConfiguration(List.of(new TestLesson()), null, "/");
+
+    assertThatThrownBy(
+            () -> configuration.attachToLessons(List.of(TestAssignment.class), List.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("TestAssignment");
+  }
+
+  @Test
+  void shouldFailWhenLessonOfAssignmentIsMissing() {
+    var configuration = new CourseConfiguration(List.of(), null, "/");
+
+    assertThatThrownBy(
+            () ->
+                configuration.attachToLessons(
+                    List.of(TestAssignment.class),
+                    List.of(
+                        new AssignmentRegistration(
+                            TestAssignment.class, TestLesson.class, "/test/attack", List.of()))))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("No lesson found for assignment: 'TestAssignment'");
+  }
+
+  @Test
+  void generatedRegistryShouldContainAllAssignments() {
+    var configuration = new CourseConfiguration(List.of(), null, "/");
+
+    assertThat(configuration.registry(List.of()))
+        .anySatisfy(
+            registration -> {
+              assertThat(registration.path()).isEqualTo("/WebWolf/mail");
+              assertThat(registration.lesson().getSimpleName()).isEqualTo("WebWolfIntroduction");
+            });
+  }
+
+  @Test
+  void reflectionShouldCreateTheSameRegistry() {
+    var generated = new CourseConfiguration(List.of(), null, "/").registry(List.of());
+
+    var reflective =
+        ReflectiveAssignmentRegistry.create(
+            generated.stream().<Class<?>>map(AssignmentRegistration::endpoint).toList(),
+            generated.stream()
+                .<Class<? extends Lesson>>map(AssignmentRegistration::lesson)
+                .distinct()
+                .toList());
+
+    assertThat(reflective).containsExactlyElementsOf(generated);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.owasp.webgoat.lessons.challenges.ChallengeIntro;
+import org.owasp.webgoat.lessons.challenges.FlagController;
+import org.owasp.webgoat.lessons.challenges.Flags;
+import org.owasp.webgoat.lessons.challenges.challenge1.Assignment1;
+import org.owasp.webgoat.lessons.challenges.challenge1.Challenge1;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+class LessonModulesTest {
+
+  private AnnotationConfigApplicationContext context(MockEnvironment environment) {
+    var context = new AnnotationConfigApplicationContext();
+    context.setEnvironment(environment);
+    context.register(
+        LessonModules.class,
+        LessonInitializationTimer.class,
+        ChallengeIntro.class,
+        Flags.class,
+        FlagController.class,
+        Challenge1.class,
+        Assignment1.class);
+    context.refresh();
+    return context;
+  }
+
+  @Test
+  void shouldCreateAllLessonBeansDuringStartupByDefault() {
+    try (var context = context(new MockEnvironment())) {
+      var beanFactory = context.getBeanFactory();
+
+      assertThat(beanFactory.containsSingleton("assignment1")).isTrue();
+      assertThat(
+              beanFactory.getBeanDefinition("flags").getAttribute(LessonModules.LESSON_ATTRIBUTE))
+          .isEqualTo("ChallengeIntro");
+      assertThat(context.getBean(LessonInitializationTimer.class).getInitializationTimes())
+          .containsOnlyKeys("ChallengeIntro", "Challenge1");
+    }
+  }
+
+  @Test
+  void shouldCreateLessonBeansOnFirstUse() {
+    var environment = new MockEnvironment().withProperty(LessonModules.LESSON_MODULES, "true");
+    try (var context = context(environment)) {
+      var beanFactory = context.getBeanFactory();
+
+      assertThat(beanFactory.containsSingleton("challenge1")).isTrue();
+      assertThat(beanFactory.containsSingleton("assignment1")).isFalse();
+      assertThat(beanFactory.containsSingleton("flags")).isFalse();
+
+      context.getBean(Assignment1.class);
+
+      assertThat(beanFactory.containsSingleton("flags")).isTrue();
+    }
+  }
+
+  @Test
+  void shouldKeepBeansSharedWithIncludedLessons() {
+    var environment =
+        new MockEnvironment()
+            .withProperty(LessonModules.LESSON_MODULES, "true")
+            .withProperty("exclude.lessons", "ChallengeIntro");
+    try (var context = context(environment)) {
+      assertThat(context.getBeanNamesForType(ChallengeIntro.class)).isEmpty();
+      assertThat(context.getBeanNamesForType(FlagController.class)).isEmpty();
+      assertThat(context.getBeanNamesForType(Flags.class)).isNotEmpty();
+      assertThat(context.getBean(Assignment1.class)).isNotNull();
+    }
+  }
+
+  @Test
+  void shouldRemoveExcludedCategories() {
+    var environment =
+        new MockEnvironment()
+            .withProperty(LessonModules.LESSON_MODULES, "true")
+            .withProperty("exclude.categories", "none,CHALLENGE");
+    try (var context = context(environment)) {
+      assertThat(context.getBeanNamesForType(Lesson.class)).isEmpty();
+      assertThat(context.getBeanNamesForType(Flags.class)).isEmpty();
+      assertThat(context.getBeanNamesForType(Assignment1.class)).isEmpty();
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.lessons;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LessonStateTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private long now;
+  private final LessonStateStore store =
+      new LessonStateStore(
+          meterRegistry,
+          new LessonState.Limits(3, 1000, Duration.ofMinutes(10), Duration.ofMinutes(5)),
+          Duration.ofMinutes(1),
+          () -> now);
+
+  private LessonState<String> state() {
+    return store.create("test", LessonStateStore::sizeOf);
+  }
+
+  private double evicted(String reason) {
+    return meterRegistry
+        .counter("webgoat.lesson.state.evicted", "state", "test", "reason", reason)
+        .count();
+  }
+
+  @Test
+  void usersShouldHaveTheirOwnEntries() {
+    var state = state();
+    state.add("tom", "a");
+    state.add("jerry", "b");
+
+    assertThat(state.values("tom")).containsExactly("a");
+    assertThat(state.values("jerry")).containsExactly("b");
+    assertThat(state.values("sylvester")).isEmpty();
+  }
+
+  @Test
+  void oldestEntriesShouldBeRemovedWhenFull() {
+    var state = state();
+    for (var value : new String[] {"a", "b", "c", "d"}) {
+      state.add("tom", value);
+    }
+
+    assertThat(state.values("tom")).containsExactly("b", "c", "d");
+    assertThat(state.latest("tom")).contains("d");
+    assertThat(evicted("capacity")).isEqualTo(1);
+  }
+
+  @Test
+  void sizeShouldBeLimited() {
+    var state = state();
+    state.add("tom", "a".repeat(600));
+    state.add("tom", "b".repeat(600));
+
+    assertThat(state.values("tom")).containsExactly("b".repeat(600));
+    assertThat(state.bytes()).isEqualTo(LessonStateStore.sizeOf("b".repeat(600)));
+  }
+
+  @Test
+  void expiredEntriesShouldBeRemoved() {
+    var state = state();
+    state.add("tom", "a");
+    now += Duration.ofMinutes(4).toNanos();
+    state.add("tom", "b");
+    now += Duration.ofMinutes(7).toNanos();
+
+    assertThat(state.values("tom")).containsExactly("b");
+    assertThat(evicted("ttl")).isEqualTo(1);
+  }
+
+  @Test
+  void idleUsersShouldBeRemoved() {
+    var state = state();
+    state.add("tom", "a");
+    state.add("jerry", "b");
+    now += Duration.ofMinutes(3).toNanos();
+    state.values("jerry");
+    now += Duration.ofMinutes(3).toNanos();
+
+    store.evictExpired();
+
+    assertThat(state.values("tom")).isEmpty();
+    assertThat(state.values("jerry")).containsExactly("b");
+    assertThat(state.entries()).isEqualTo(1);
+    assertThat(evicted("idle")).isEqualTo(1);
+  }
+
+  @Test
+  void setShouldReplaceAllEntries() {
+    var state = state();
+    state.add("tom", "a");
+    state.add("tom", "b");
+    state.set("tom", "c");
+
+    assertThat(state.values("tom")).containsExactly("c");
+    assertThat(state.remove("tom", "c")).isTrue();
+    assertThat(state.remove("tom", "c")).isFalse();
+    assertThat(state.entries()).isZero();
+    assertThat(state.bytes()).isZero();
+  }
+
+  @Test
+  void concurrentWritesShouldKeepAccounting() throws Exception {
+    var state =
+        store.<String>create(
+            "test",
+            LessonStateStore::sizeOf,
+            new LessonState.Limits(1000, 1_000_000, Duration.ofMinutes(10), Duration.ofMinutes(5)));
+    try (var executor = Executors.newFixedThreadPool(4)) {
+      IntStream.range(0, 4000)
+          .forEach(i -> executor.submit(() -> state.add("user" + (i % 4), "value" + i)));
+    }
+
+    assertThat(state.entries()).isEqualTo(4000);
+    assertThat(IntStream.range(0, 4).map(i -> state.values("user" + i).size()).sum())
+        .isEqualTo(4000);
+    assertThat(meterRegistry.get("webgoat.lesson.state.entries").gauge().value()).isEqualTo(4000);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class MailOutboxTest {
+
+  private static final String BATCH_URL = "http://localhost:9090/WebWolf/mail/batch";
+
+  private final RestTemplate restTemplate = mock(RestTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private MailOutbox outbox;
+
+  private MailOutbox outbox(int capacity, int maxAttempts) {
+    outbox =
+        new MailOutbox(
+            restTemplate,
+            meterRegistry,
+            "http://localhost:9090/WebWolf/mail",
+            capacity,
+            50,
+            maxAttempts,
+            Duration.ofMillis(1));
+    return outbox;
+  }
+
+  @AfterEach
+  void stop() {
+    outbox.stop();
+  }
+
+  /** The metrics are updated by the worker after the call to WebWolf returned */
+  private static void awaitCount(DoubleSupplier count, double expected) {
+    var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (count.getAsDouble() < expected && System.nanoTime() < deadline) {
+      LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+    }
+    assertThat(count.getAsDouble()).isEqualTo(expected);
+  }
+
+  @Test
+  void queuedMailsShouldBeDeliveredInOneBatch() {
+    var outbox = outbox(10, 3);
+    outbox.send("mail1");
+    outbox.send("mail2");
+
+    outbox.start();
+
+    verify(restTemplate, timeout(5000))
+        .postForEntity(BATCH_URL, List.of("mail1", "mail2"), Void.class);
+    awaitCount(() -> meterRegistry.timer("webgoat.mail.outbox.delivery").count(), 2);
+  }
+
+  @Test
+  void failedDeliveryShouldBeRetried() {
+    when(restTemplate.postForEntity(eq(BATCH_URL), any(), eq(Void.class)))
+        .thenThrow(new ResourceAccessException("WebWolf is not running"))
+        .thenReturn(null);
+    var outbox = outbox(10, 3);
+    outbox.start();
+
+    outbox.send("mail");
+
+    verify(restTemplate, timeout(5000).times(2))
+        .postForEntity(BATCH_URL, List.of("mail"), Void.class);
+  }
+
+  @Test
+  void mailsShouldBeDroppedAfterLastAttempt() {
+    when(restTemplate.postForEntity(eq(BATCH_URL), any(), eq(Void.class)))
+        .thenThrow(new ResourceAccessException("WebWolf is not running"));
+    var outbox = outbox(10, 2);
+    outbox.send("mail");
+    outbox.start();
+
+    verify(restTemplate, timeout(5000).times(2))
+        .postForEntity(BATCH_URL, List.of("mail"), Void.class);
+    awaitCount(() -> meterRegistry.counter("webgoat.mail.outbox.failed").count(), 1);
+  }
+
+  @Test
+  void unexpectedFailureShouldNotStopTheDelivery() {
+    when(restTemplate.postForEntity(eq(BATCH_URL), any(), eq(Void.class)))
+        .thenThrow(new HttpMessageNotWritableException("Mail cannot be serialized"))
+        .thenReturn(null);
+    var outbox = outbox(10, 3);
+    outbox.send("broken");
+    outbox.start();
+    awaitCount(() -> meterRegistry.counter("webgoat.mail.outbox.failed").count(), 1);
+
+    outbox.send("mail");
+
+    verify(restTemplate, timeout(5000)).postForEntity(BATCH_URL, List.of("mail"), Void.class);
+    awaitCount(() -> meterRegistry.timer("webgoat.mail.outbox.delivery").count(), 1);
+  }
+
+  @Test
+  void fullOutboxShouldRejectMail() {
+    var outbox = outbox(1, 3);
+    outbox.start();
+    outbox.stop();
+
+    assertThat(outbox.send("mail1")).isTrue();
+    assertThat(outbox.send("mail2")).isFalse();
+    assertThat(meterRegistry.counter("webgoat.mail.outbox.rejected").count()).isEqualTo(1);
+  }
+}
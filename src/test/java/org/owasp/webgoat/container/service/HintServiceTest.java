@@ -4,17 +4,25 @@
  */
 package org.owasp.webgoat.container.service;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.owasp.webgoat.container.service.HintService.URL_HINTS_MVC;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
 import java.util.List;
+import java.util.Locale;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.owasp.webgoat.container.i18n.PluginMessages;
 import org.owasp.webgoat.container.lessons.Assignment;
 import org.owasp.webgoat.container.lessons.Lesson;
 import org.owasp.webgoat.container.session.Course;
@@ -26,6 +34,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 public class HintServiceTest {
 
   private MockMvc mockMvc;
+  @Mock private PluginMessages pluginMessages;
 
   @BeforeEach
   void setup() {
@@ -33,7 +42,7 @@ public class HintServiceTest {
     lesson.addAssignment(
         new Assignment("test", "/HttpBasics/attack1", List.of("hint 1", "hint 2")));
     Course course = new Course(List.of(lesson));
-    this.mockMvc = standaloneSetup(new HintService(course)).build();
+    this.mockMvc = standaloneSetup(new HintService(course, pluginMessages)).build();
   }
 
   @Test
@@ -44,4 +53,61 @@ public class HintServiceTest {
         .andExpect(jsonPath("$[0].hint", CoreMatchers.is("hint 1")))
         .andExpect(jsonPath("$[0].assignmentPath", CoreMatchers.is("/HttpBasics/attack1")));
   }
+
+  @Test
+  void hintsOfLessonAreTranslated() throws Exception {
+    when(pluginMessages.getSupportedLocale(any(Locale.class))).thenReturn(Locale.ROOT);
+    when(pluginMessages.getMessage(eq("hint 1"), any(), eq("hint 1"), any(Locale.class)))
+        .thenReturn("translated hint 1");
+    when(pluginMessages.getMessage(eq("hint 2"), any(), eq("hint 2"), any(Locale.class)))
+        .thenReturn("translated hint 2");
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(URL_HINTS_MVC + "/HttpBasics.lesson"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Cache-Control", CoreMatchers.containsString("no-cache")))
+        .andExpect(header().exists("ETag"))
+        .andExpect(jsonPath("$.length()", CoreMatchers.is(2)))
+        .andExpect(jsonPath("$[0].hint", CoreMatchers.is("translated hint 1")))
+        .andExpect(jsonPath("$[1].assignmentPath", CoreMatchers.is("/HttpBasics/attack1")));
+  }
+
+  @Test
+  void unchangedHintsShouldNotBeSentAgain() throws Exception {
+    when(pluginMessages.getSupportedLocale(any(Locale.class))).thenReturn(Locale.ROOT);
+    var etag =
+        mockMvc
+            .perform(MockMvcRequestBuilders.get(URL_HINTS_MVC + "/HttpBasics.lesson"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get(URL_HINTS_MVC + "/HttpBasics.lesson")
+                .header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void hintsShouldBeResolvedOncePerSupportedLocale() throws Exception {
+    when(pluginMessages.getSupportedLocale(any(Locale.class))).thenReturn(Locale.ROOT);
+
+    for (var language : List.of("en", "en-US", "xx-YY")) {
+      mockMvc
+          .perform(
+              MockMvcRequestBuilders.get(URL_HINTS_MVC + "/HttpBasics.lesson")
+                  .locale(Locale.forLanguageTag(language)))
+          .andExpect(status().isOk());
+    }
+
+    verify(pluginMessages).getMessage(eq("hint 1"), any(), eq("hint 1"), eq(Locale.ROOT));
+  }
+
+  @Test
+  void unknownLessonShouldReturnNotFound() throws Exception {
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(URL_HINTS_MVC + "/Unknown.lesson"))
+        .andExpect(status().isNotFound());
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.container.service;
+
+import static org.mockito.Mockito.when;
+import static org.owasp.webgoat.container.service.LabelService.URL_LABELS_MVC;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+import java.util.Locale;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.owasp.webgoat.container.i18n.Language;
+import org.owasp.webgoat.container.i18n.Messages;
+import org.owasp.webgoat.container.i18n.PluginMessages;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+@ExtendWith(MockitoExtension.class)
+class LabelServiceTest {
+
+  @Mock private Language language;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setup() {
+    var messages = new Messages(language);
+    messages.setDefaultEncoding("UTF-8");
+    messages.setBasename("classpath:i18n/messages");
+    messages.setFallbackToSystemLocale(false);
+    var pluginMessages =
+        new PluginMessages(messages, language, new PathMatchingResourcePatternResolver());
+    pluginMessages.setDefaultEncoding("UTF-8");
+    pluginMessages.setBasenames("i18n/WebGoatLabels");
+    pluginMessages.setFallbackToSystemLocale(false);
+    this.mockMvc = standaloneSetup(new LabelService(pluginMessages)).build();
+  }
+
+  @Test
+  void labelsShouldContainWebGoatAndLessonLabels() throws Exception {
+    when(language.getLocale()).thenReturn(Locale.ENGLISH);
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(URL_LABELS_MVC))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andExpect(jsonPath("$['RestartLesson']", CoreMatchers.is("Restart this Lesson")))
+        .andExpect(jsonPath("$['EnterYourName']", CoreMatchers.is("Enter your Name")));
+  }
+
+  @Test
+  void labelsShouldBeTranslated() throws Exception {
+    when(language.getLocale()).thenReturn(Locale.GERMANY);
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(URL_LABELS_MVC))
+        .andExpect(status().isOk())
+        .andExpect(
+            jsonPath("$['assignment.solved']", CoreMatchers.startsWith("Herzlichen Glückwunsch!")))
+        .andExpect(jsonPath("$['EnterYourName']", CoreMatchers.is("Geben Sie Ihren Namen ein")));
+  }
+
+  @Test
+  void unchangedLabelsShouldNotBeSentAgain() throws Exception {
+    when(language.getLocale()).thenReturn(Locale.ENGLISH);
+
+    var etag =
+        mockMvc
+            .perform(MockMvcRequestBuilders.get(URL_LABELS_MVC))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.get(URL_LABELS_MVC).header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+  }
+}
@@ -23,6 +23,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.owasp.webgoat.container.lessons.Category;
 import org.owasp.webgoat.container.lessons.Lesson;
+import org.owasp.webgoat.container.lessons.LessonName;
 import org.owasp.webgoat.container.session.Course;
 import org.owasp.webgoat.container.users.LessonProgress;
 import org.owasp.webgoat.container.users.UserProgress;
@@ -84,4 +85,27 @@ public class LessonMenuServiceTest {
         .andExpect(status().isOk()) // .andDo(print())
         .andExpect(jsonPath("$[0].children[0].complete", CoreMatchers.is(true)));
   }
+
+  @Test
+  void excludedLessonsShouldNotBeShown() throws Exception {
+    Lesson l1 = Mockito.mock(Lesson.class);
+    Lesson l2 = Mockito.mock(Lesson.class);
+    when(l1.getTitle()).thenReturn("ZA");
+    when(l1.getName()).thenReturn(new LessonName("ExcludedLesson"));
+    when(l2.getTitle()).thenReturn("AA");
+    when(l2.getName()).thenReturn(new LessonName("OtherLesson"));
+    when(course.getLessons(any())).thenReturn(List.of(l1, l2));
+    when(course.getCategories()).thenReturn(List.of(Category.A1));
+    when(userTracker.getLessonProgress(any(Lesson.class))).thenReturn(lessonTracker);
+    when(userTrackerRepository.findByUser(any())).thenReturn(userTracker);
+
+    standaloneSetup(
+            new LessonMenuService(
+                course, userTrackerRepository, List.of("none"), List.of("ExcludedLesson")))
+        .build()
+        .perform(MockMvcRequestBuilders.get(URL_LESSONMENU_MVC))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].children.length()", CoreMatchers.is(1)))
+        .andExpect(jsonPath("$[0].children[0].name", CoreMatchers.is("AA")));
+  }
 }
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.challenges;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.owasp.webgoat.container.plugins.LessonTest;
+import org.owasp.webgoat.lessons.challenges.challenge1.ImageServlet;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+class ImageServletTest extends LessonTest {
+
+  @Test
+  void logoShouldContainThePincode() throws Exception {
+    var logo =
+        mockMvc
+            .perform(MockMvcRequestBuilders.get("/challenge/logo"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+    assertThat(new String(Arrays.copyOfRange(logo, 81216, 81220), StandardCharsets.US_ASCII))
+        .isEqualTo(String.format("%04d", ImageServlet.PINCODE));
+  }
+
+  @Test
+  void unchangedLogoShouldNotBeSentAgain() throws Exception {
+    var etag =
+        mockMvc
+            .perform(MockMvcRequestBuilders.get("/challenge/logo"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/challenge/logo").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void postShouldReturnTheLogo() throws Exception {
+    mockMvc
+        .perform(MockMvcRequestBuilders.post("/challenge/logo"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"));
+  }
+}
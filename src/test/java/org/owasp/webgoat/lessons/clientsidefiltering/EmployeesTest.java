@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.clientsidefiltering;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeesTest {
+
+  @TempDir Path directory;
+  private Employees employees;
+
+  @BeforeEach
+  void start() throws Exception {
+    employees = new Employees(directory.toString(), new ObjectMapper());
+    employees.start();
+  }
+
+  @AfterEach
+  void stop() throws Exception {
+    employees.stop();
+  }
+
+  @Test
+  void onlyTheColumnsOfTheLessonShouldBeLoaded() {
+    var snapshot = employees.snapshot();
+
+    assertThat(snapshot.employees()).hasSize(12);
+    assertThat(snapshot.employees().getFirst())
+        .containsExactly(
+            entry("UserID", "101"),
+            entry("FirstName", "Larry"),
+            entry("LastName", "Stooge"),
+            entry("SSN", "386-09-5451"),
+            entry("Salary", "55000"));
+    assertThat(new String(snapshot.json(), StandardCharsets.UTF_8))
+        .startsWith("[{\"UserID\":\"101\",\"FirstName\":\"Larry\"")
+        .doesNotContain("CreditCard");
+  }
+
+  @Test
+  void changedFileShouldBeLoadedAgain() throws Exception {
+    Files.writeString(
+        directory.resolve("ClientSideFiltering/employees.xml"),
+        "<Employees><Employee><UserID>1</UserID><Salary>10</Salary></Employee></Employees>");
+
+    for (int i = 0; i < 100 && employees.snapshot().employees().size() != 1; i++) {
+      Thread.sleep(100);
+    }
+
+    assertThat(employees.snapshot().employees()).hasSize(1);
+  }
+
+  @Test
+  void invalidFileShouldKeepTheEmployees() throws Exception {
+    Files.writeString(directory.resolve("ClientSideFiltering/employees.xml"), "<Employees><Emp");
+
+    employees.reload();
+
+    assertThat(employees.snapshot().employees()).hasSize(12);
+  }
+}
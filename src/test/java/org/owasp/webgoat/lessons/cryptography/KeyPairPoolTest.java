@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.cryptography;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Test;
+
+class KeyPairPoolTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void emptyPoolShouldGenerateKeyPairForCaller() throws Exception {
+    var pool = new KeyPairPool(meterRegistry, 1);
+
+    assertThat(pool.take().getPublic().getAlgorithm()).isEqualTo("RSA");
+    assertThat(meterRegistry.counter("webgoat.crypto.key-pool.fallback").count()).isEqualTo(1);
+  }
+
+  @Test
+  void keyPairsShouldBeGeneratedInBackground() throws Exception {
+    var pool = new KeyPairPool(meterRegistry, 2);
+    pool.start();
+    try {
+      var available = meterRegistry.get("webgoat.crypto.key-pool.available").gauge();
+      var deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+      while (available.value() < 2 && System.nanoTime() < deadline) {
+        LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+      }
+      assertThat(available.value()).isEqualTo(2);
+
+      var first = pool.take();
+      var second = pool.take();
+
+      assertThat(first.getPublic()).isNotEqualTo(second.getPublic());
+      assertThat(meterRegistry.counter("webgoat.crypto.key-pool.fallback").count()).isZero();
+    } finally {
+      pool.stop();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.hijacksession.cas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SessionRegistryTest {
+
+  @Test
+  void oldestSessionShouldBeReplaced() {
+    var registry = new SessionRegistry(3);
+
+    IntStream.range(0, 4).forEach(i -> registry.add("id-" + i));
+
+    assertThat(registry.size()).isEqualTo(3);
+    assertThat(registry.contains("id-0")).isFalse();
+    assertThat(registry.contains("id-1")).isTrue();
+    assertThat(registry.contains("id-3")).isTrue();
+  }
+
+  @Test
+  void sessionAddedTwiceShouldStayUntilBothAreReplaced() {
+    var registry = new SessionRegistry(2);
+    registry.add("id");
+    registry.add("id");
+
+    registry.add("other");
+    assertThat(registry.contains("id")).isTrue();
+
+    registry.add("other");
+    assertThat(registry.contains("id")).isFalse();
+  }
+
+  @Test
+  void concurrentAddsShouldKeepTheLastSessions() throws Exception {
+    var registry = new SessionRegistry(50);
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      IntStream.range(0, 10_000).forEach(i -> executor.submit(() -> registry.add("id-" + i)));
+    }
+
+    assertThat(registry.size()).isEqualTo(50);
+    assertThat(IntStream.range(0, 10_000).filter(i -> registry.contains("id-" + i)).count())
+        .isEqualTo(50);
+  }
+}
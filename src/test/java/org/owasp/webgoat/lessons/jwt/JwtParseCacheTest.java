@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class JwtParseCacheTest {
+
+  private static final String KEY = "c2VjcmV0LWtleS1vZi10aGUtbGVzc29u";
+  private static final String OTHER_KEY = "b3RoZXIta2V5LW9mLXRoZS1sZXNzb24=";
+
+  private final AtomicLong now = new AtomicLong(System.currentTimeMillis());
+  private final JwtParseCache cache = new JwtParseCache(10, Duration.ofMinutes(5), now::get);
+
+  private static String token(Date expiration) {
+    return Jwts.builder()
+        .claim("user", "Tom")
+        .setExpiration(expiration)
+        .signWith(SignatureAlgorithm.HS512, KEY)
+        .compact();
+  }
+
+  @Test
+  void sameTokenShouldBeParsedOnce() {
+    var token = token(null);
+
+    var first = cache.parse(KEY, token);
+
+    assertThat(cache.parse(KEY, token)).isSameAs(first);
+  }
+
+  @Test
+  void tokenShouldBeVerifiedWithEveryKey() {
+    var token = token(null);
+    cache.parse(KEY, token);
+
+    assertThatThrownBy(() -> cache.parse(OTHER_KEY, token)).isInstanceOf(SignatureException.class);
+    assertThatThrownBy(() -> cache.parse(OTHER_KEY, token)).isInstanceOf(SignatureException.class);
+  }
+
+  @Test
+  void tokenShouldNotBeCachedBeyondItsExpiry() {
+    var token = token(new Date(System.currentTimeMillis() + 1000));
+    cache.parse(KEY, token);
+
+    now.addAndGet(1000);
+
+    assertThatThrownBy(() -> cache.parse(KEY, token)).isInstanceOf(ExpiredJwtException.class);
+  }
+}
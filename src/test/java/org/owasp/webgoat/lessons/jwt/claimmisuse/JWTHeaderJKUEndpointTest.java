@@ -7,6 +7,7 @@ package org.owasp.webgoat.lessons.jwt.claimmisuse;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static io.jsonwebtoken.SignatureAlgorithm.RS256;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -14,6 +15,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.interfaces.RSAPublicKey;
@@ -25,10 +27,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.owasp.webgoat.container.plugins.LessonTest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 class JWTHeaderJKUEndpointTest extends LessonTest {
+  @Autowired private MeterRegistry meterRegistry;
   private KeyPair keyPair;
   private WireMockServer webwolfServer;
   private int port;
@@ -62,6 +66,10 @@ class JWTHeaderJKUEndpointTest extends LessonTest {
         .perform(MockMvcRequestBuilders.post("/JWT/jku/delete").param("token", token).content(""))
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.lessonCompleted", is(true)));
+    assertThat(meterRegistry.find("http.client.requests").tag("client.name", "jwt-jku").timers())
+        .singleElement()
+        .extracting(timer -> timer.getId().getTag("uri"))
+        .isEqualTo("jku");
   }
 
   @Test
@@ -75,6 +83,22 @@ class JWTHeaderJKUEndpointTest extends LessonTest {
         .andExpect(jsonPath("$.lessonCompleted", is(false)));
   }
 
+  @Test
+  void tokenWithoutJkuShouldBeInvalid() throws Exception {
+    var token =
+        Jwts.builder()
+            .setHeaderParam("kid", "webgoat_key")
+            .claim("username", "Tom")
+            .signWith(RS256, this.keyPair.getPrivate())
+            .compact();
+
+    mockMvc
+        .perform(MockMvcRequestBuilders.post("/JWT/jku/delete").param("token", token).content(""))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.lessonCompleted", is(false)))
+        .andExpect(jsonPath("$.feedback", is(messages.getMessage("jwt-invalid-token"))));
+  }
+
   private String createTokenAndSignIt() {
     Map<String, Object> claims = new HashMap<>();
     claims.put("username", "Tom");
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.jwt.votes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class VoteTest {
+
+  private Vote vote(int numberOfVotes) {
+    return new Vote("title", "information", "small.png", "big.png", numberOfVotes, 100);
+  }
+
+  @Test
+  void concurrentVotesShouldAllBeCounted() {
+    var vote = vote(0);
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      IntStream.range(0, 10_000).forEach(i -> executor.submit(vote::incrementNumberOfVotes));
+    }
+
+    assertThat(vote.getNumberOfVotes()).isEqualTo(10_000);
+  }
+
+  @Test
+  void incrementShouldTellWhenTheAverageChanged() {
+    var vote = vote(36);
+
+    assertThat(vote.getAverage()).isEqualTo(1);
+    assertThat(vote.incrementNumberOfVotes()).isFalse();
+    assertThat(vote.incrementNumberOfVotes()).isTrue();
+    assertThat(vote.getAverage()).isEqualTo(2);
+  }
+
+  @Test
+  void resetShouldKeepOneVote() {
+    var vote = vote(80);
+
+    vote.reset();
+
+    assertThat(vote.getNumberOfVotes()).isEqualTo(1);
+    assertThat(vote.getAverage()).isEqualTo(1);
+    vote.incrementNumberOfVotes();
+    assertThat(vote.getAverage()).isZero();
+  }
+}
@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -29,6 +30,7 @@ class ResetLinkAssignmentTest extends LessonTest {
   private String webWolfPort;
 
   @Autowired private ResourceLoader resourceLoader;
+  @Autowired private ResetLinks resetLinks;
 
   @BeforeEach
   public void setup() {
@@ -83,7 +85,8 @@ class ResetLinkAssignmentTest extends LessonTest {
                 .param("email", TOM_EMAIL)
                 .header(HttpHeaders.HOST, webWolfHost + ":" + webWolfPort))
         .andExpect(status().isOk());
-    Assertions.assertThat(ResetLinkAssignment.resetLinks).isNotEmpty();
+    var username = SecurityContextHolder.getContext().getAuthentication().getName();
+    Assertions.assertThat(resetLinks.latest(username)).isNotEmpty();
 
     // With a known link you should be
     MvcResult mvcResult =
@@ -91,7 +94,7 @@ class ResetLinkAssignmentTest extends LessonTest {
             .perform(
                 MockMvcRequestBuilders.get(
                     "/PasswordReset/reset/reset-password/{link}",
-                    ResetLinkAssignment.resetLinks.get(0)))
+                    resetLinks.latest(username).get()))
             .andExpect(status().isOk())
             .andExpect(view().name("lessons/passwordreset/templates/password_reset.html"))
             .andReturn();
@@ -4,15 +4,19 @@
  */
 package org.owasp.webgoat.lessons.pathtraversal;
 
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.File;
+import java.util.Base64;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.owasp.webgoat.WithWebGoatUser;
 import org.owasp.webgoat.container.plugins.LessonTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -96,4 +100,55 @@ class ProfileUploadTest extends LessonTest {
                     "PathTraversal\\" + File.separator + "test\\" + File.separator + "John Doe")))
         .andExpect(jsonPath("$.lessonCompleted", CoreMatchers.is(false)));
   }
+
+  @Test
+  void uploadedPictureShouldBeReturnedBase64Encoded() throws Exception {
+    upload("picture.jpg");
+
+    var etag =
+        mockMvc
+            .perform(MockMvcRequestBuilders.get("/PathTraversal/profile-picture"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(Base64.getEncoder().encodeToString("an image".getBytes())))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/PathTraversal/profile-picture")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void defaultPictureShouldBeReturnedWithoutUpload() throws Exception {
+    upload("../picture.jpg");
+
+    var etag =
+        mockMvc
+            .perform(MockMvcRequestBuilders.get("/PathTraversal/profile-picture"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.get("/PathTraversal/profile-picture")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+  }
+
+  private void upload(String fullName) throws Exception {
+    var profilePicture =
+        new MockMultipartFile("uploadedFile", "picture.jpg", "image/jpeg", "an image".getBytes());
+    mockMvc
+        .perform(
+            MockMvcRequestBuilders.multipart("/PathTraversal/profile-upload")
+                .file(profilePicture)
+                .param("fullName", fullName))
+        .andExpect(status().is(200));
+  }
 }
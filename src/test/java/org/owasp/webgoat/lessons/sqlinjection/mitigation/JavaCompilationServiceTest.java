@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.sqlinjection.mitigation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class JavaCompilationServiceTest {
+
+  private final JavaCompilationService service = new JavaCompilationService(1, 10);
+
+  @AfterEach
+  void close() {
+    service.close();
+  }
+
+  @Test
+  void validSourceShouldCompileWithoutDiagnostics() {
+    var diagnostics =
+        service.compile(
+            "TestClass",
+            "import java.sql.*; public class TestClass { void run() throws SQLException {"
+                + " DriverManager.getConnection(\"jdbc:hsqldb:mem:test\"); } }");
+
+    assertThat(diagnostics).isEmpty();
+  }
+
+  @Test
+  void invalidSourceShouldReturnCompilerErrors() {
+    var diagnostics =
+        service.compile("TestClass", "public class TestClass { void run() { int i = \"a\"; } }");
+
+    assertThat(diagnostics).hasSize(1);
+    assertThat(diagnostics.getFirst()).contains("incompatible types");
+  }
+
+  @Test
+  void sameSourceShouldBeCompiledOnce() {
+    var first = service.compile("TestClass", "public class TestClass { Strin s; }");
+    var second = service.compile("TestClass", "public class TestClass { Strin s; }   \r\n");
+
+    assertThat(second).isNotEmpty().isSameAs(first);
+  }
+
+  @Test
+  void fileManagerShouldBeReused() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(service.compile("TestClass", "public class TestClass { int i = " + i + "; }"))
+          .isEmpty();
+    }
+  }
+}
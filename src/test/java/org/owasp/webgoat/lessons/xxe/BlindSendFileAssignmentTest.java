@@ -17,17 +17,26 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
 import org.owasp.webgoat.WithWebGoatUser;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
 import org.owasp.webgoat.container.plugins.LessonTest;
+import org.owasp.webgoat.container.users.WebGoatUser;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
 @WithWebGoatUser
 class BlindSendFileAssignmentTest extends LessonTest {
@@ -164,6 +173,43 @@ class BlindSendFileAssignmentTest extends LessonTest {
     performXXE(xml);
   }
 
+  @Test
+  void missingSecretShouldNotSolveTheAssignment(@TempDir Path directory) throws Exception {
+    var user = new WebGoatUser("tom", "password");
+    var assignment =
+        new BlindSendFileAssignment(
+            directory.toString(), Mockito.mock(CommentsCache.class), store());
+
+    var result = assignment.addComment("<comment><text>test</text></comment>", user);
+
+    assertThat(result.isLessonCompleted()).isFalse();
+    var secret = Files.readString(directory.resolve("XXE/tom/secret.txt"));
+    assertThat(assignment.addComment(secret, user).isLessonCompleted()).isTrue();
+  }
+
+  @Test
+  void evictedSecretShouldBeReadFromTheFile(@TempDir Path directory) throws Exception {
+    var user = new WebGoatUser("tom", "password");
+    new BlindSendFileAssignment(directory.toString(), Mockito.mock(CommentsCache.class), store())
+        .initialize(user);
+    var secret = Files.readString(directory.resolve("XXE/tom/secret.txt"));
+    var assignment =
+        new BlindSendFileAssignment(
+            directory.toString(), Mockito.mock(CommentsCache.class), store());
+
+    assertThat(assignment.addComment(secret, user).isLessonCompleted()).isTrue();
+  }
+
+  private static LessonStateStore store() {
+    return new LessonStateStore(
+        new SimpleMeterRegistry(),
+        100,
+        DataSize.ofKilobytes(256),
+        Duration.ofHours(24),
+        Duration.ofHours(4),
+        Duration.ofMinutes(1));
+  }
+
   private void performXXE(String xml) throws Exception {
     // Call with XXE injection
     mockMvc
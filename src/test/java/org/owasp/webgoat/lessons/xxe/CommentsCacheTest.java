@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.xxe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.owasp.webgoat.container.lessons.LessonStateStore;
+import org.owasp.webgoat.container.users.WebGoatUser;
+import org.springframework.util.unit.DataSize;
+
+class CommentsCacheTest {
+
+  private final WebGoatUser tom = new WebGoatUser("tom", "password");
+  private final WebGoatUser jerry = new WebGoatUser("jerry", "password");
+  private final CommentsCache cache =
+      new CommentsCache(
+          new LessonStateStore(
+              new SimpleMeterRegistry(),
+              100,
+              DataSize.ofKilobytes(256),
+              Duration.ofHours(24),
+              Duration.ofHours(4),
+              Duration.ofMinutes(1)),
+          5,
+          1);
+
+  private static Comment comment(String text) {
+    return new Comment(null, null, text);
+  }
+
+  private static Iterable<String> texts(CommentsCache.Page page) {
+    return page.comments().stream().map(Comment::getText).toList();
+  }
+
+  @Test
+  void newestCommentsShouldComeFirst() {
+    cache.addComment(comment("tom 1"), tom, false);
+    cache.addComment(comment("everybody"), jerry, true);
+    cache.addComment(comment("tom 2"), tom, false);
+    cache.addComment(comment("jerry"), jerry, false);
+
+    var page = cache.getComments(tom, null, 10);
+
+    assertThat(texts(page))
+        .containsExactly(
+            "tom 2",
+            "everybody",
+            "tom 1",
+            "Lol!! :-).",
+            "I think I will use this picture in one of my projects.",
+            "Silly cat....");
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void cursorShouldReturnTheOlderComments() {
+    for (int i = 0; i < 5; i++) {
+      cache.addComment(comment("tom " + i), tom, false);
+    }
+
+    var texts = new ArrayList<String>();
+    var page = cache.getComments(tom, null, 3);
+    texts.addAll(page.comments().stream().map(Comment::getText).toList());
+    while (page.nextCursor() != null) {
+      assertThat(page.comments()).hasSize(3);
+      page = cache.getComments(tom, page.nextCursor(), 3);
+      texts.addAll(page.comments().stream().map(Comment::getText).toList());
+    }
+
+    assertThat(texts).hasSize(8).startsWith("tom 4", "tom 3").endsWith("Silly cat....");
+    assertThat(texts).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void globalCommentsShouldBeBounded() {
+    for (int i = 0; i < 10; i++) {
+      cache.addComment(comment("everybody " + i), jerry, true);
+    }
+
+    assertThat(texts(cache.getComments(tom, null, 50)))
+        .containsExactly("everybody 9", "everybody 8", "everybody 7", "everybody 6", "everybody 5");
+  }
+
+  @Test
+  void resetShouldOnlyKeepTheDefaultComments() {
+    cache.addComment(comment("tom"), tom, false);
+    cache.addComment(comment("everybody"), jerry, true);
+
+    cache.reset(tom);
+
+    assertThat(cache.getComments(tom, null, 50).comments()).hasSize(3);
+  }
+}
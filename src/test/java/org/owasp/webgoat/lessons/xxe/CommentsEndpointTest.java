@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.xxe;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.owasp.webgoat.WithWebGoatUser;
+import org.owasp.webgoat.container.plugins.LessonTest;
+import org.owasp.webgoat.container.users.WebGoatUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@WithWebGoatUser(username = "comments")
+class CommentsEndpointTest extends LessonTest {
+
+  private final WebGoatUser user = new WebGoatUser("comments", "password");
+  @Autowired private CommentsCache commentsCache;
+
+  @BeforeEach
+  void setup() {
+    this.mockMvc = MockMvcBuilders.webAppContextSetup(this.wac).build();
+    for (int i = 0; i < 60; i++) {
+      commentsCache.addComment(new Comment(null, null, "comment " + i), user, false);
+    }
+  }
+
+  @AfterEach
+  void reset() {
+    commentsCache.reset(user);
+  }
+
+  @Test
+  void allCommentsShouldBeReturnedWithoutLimit() throws Exception {
+    mockMvc
+        .perform(get("/xxe/comments"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist("X-Next-Cursor"))
+        .andExpect(jsonPath("$[0].text").value("comment 59"))
+        .andExpect(jsonPath("$[*].text").value(Matchers.hasItem("comment 0")));
+  }
+
+  @Test
+  void limitShouldReturnOnePage() throws Exception {
+    mockMvc
+        .perform(get("/xxe/comments").param("limit", "10"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("X-Next-Cursor"))
+        .andExpect(jsonPath("$.length()").value(10))
+        .andExpect(jsonPath("$[9].text").value("comment 50"));
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.xxe;
+
+import jakarta.xml.bind.JAXBContext;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import javax.xml.stream.XMLInputFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing a comment with a new {@link JAXBContext} for every comment (as the lesson did
+ * before) with the {@link XmlCommentParser}.
+ *
+ * <p>Run with: {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main XmlCommentParserBenchmark"}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class XmlCommentParserBenchmark {
+
+  private static final String XML =
+      "<?xml version=\"1.0\"?><comment><text>Nice cat</text></comment>";
+
+  private final XmlCommentParser parser = new XmlCommentParser(8);
+
+  @Benchmark
+  public Comment newContextPerComment() throws Exception {
+    var context = JAXBContext.newInstance(Comment.class);
+    var reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(XML));
+    return (Comment) context.createUnmarshaller().unmarshal(reader);
+  }
+
+  @Benchmark
+  public Comment pooledParser() throws Exception {
+    return parser.parse(XML, false);
+  }
+
+  @Benchmark
+  public Comment pooledSecureParser() throws Exception {
+    return parser.parse(XML, true);
+  }
+}
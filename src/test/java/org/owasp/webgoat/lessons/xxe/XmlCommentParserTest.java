@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.lessons.xxe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class XmlCommentParserTest {
+
+  private final XmlCommentParser parser = new XmlCommentParser(2);
+
+  private static String xxe(Path file) {
+    return "<?xml version=\"1.0\"?><!DOCTYPE comment [<!ENTITY secret SYSTEM \""
+        + file.toUri()
+        + "\">]><comment><text>&secret;</text></comment>";
+  }
+
+  @Test
+  void insecureParserShouldResolveExternalEntities(@TempDir Path dir) throws Exception {
+    var file = Files.writeString(dir.resolve("secret.txt"), "WebGoat 8.0 rocks!");
+
+    assertThat(parser.parse(xxe(file), false).getText()).isEqualTo("WebGoat 8.0 rocks!");
+  }
+
+  @Test
+  void secureParserShouldRejectExternalEntities(@TempDir Path dir) throws Exception {
+    var file = Files.writeString(dir.resolve("secret.txt"), "WebGoat 8.0 rocks!");
+
+    assertThatThrownBy(() -> parser.parse(xxe(file), true)).isInstanceOf(Exception.class);
+    assertThat(parser.parse("<comment><text>hello</text></comment>", true).getText())
+        .isEqualTo("hello");
+  }
+
+  @Test
+  void parsersShouldBeSharedBetweenThreads() throws Exception {
+    try (var executor = Executors.newFixedThreadPool(4)) {
+      var tasks =
+          IntStream.range(0, 100)
+              .mapToObj(
+                  i ->
+                      (Callable<String>)
+                          () ->
+                              parser
+                                  .parse("<comment><text>" + i + "</text></comment>", i % 2 == 0)
+                                  .getText())
+              .toList();
+      var results = executor.invokeAll(tasks);
+      for (int i = 0; i < results.size(); i++) {
+        assertThat(results.get(i).get()).isEqualTo(String.valueOf(i));
+      }
+    }
+  }
+}
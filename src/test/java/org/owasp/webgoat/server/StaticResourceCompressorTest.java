@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright © 2026 WebGoat authors
+ * SPDX-License-Identifier: GPL-2.0-or-later
+ */
+package org.owasp.webgoat.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StaticResourceCompressorTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void shouldWriteGzipVariantOfTextResources() throws IOException {
+    var js = Files.createDirectories(directory.resolve("js")).resolve("goat.js");
+    Files.writeString(js, "console.log('goat');\n".repeat(100));
+
+    assertThat(StaticResourceCompressor.compress(directory)).isEqualTo(1);
+
+    try (var in = new GZIPInputStream(Files.newInputStream(directory.resolve("js/goat.js.gz")))) {
+      assertThat(in.readAllBytes()).isEqualTo(Files.readAllBytes(js));
+    }
+  }
+
+  @Test
+  void shouldSkipSmallAndBinaryResources() throws IOException {
+    Files.writeString(directory.resolve("small.css"), "body {}");
+    Files.write(directory.resolve("image.png"), new byte[4096]);
+
+    assertThat(StaticResourceCompressor.compress(directory)).isZero();
+    assertThat(directory.resolve("small.css.gz")).doesNotExist();
+    assertThat(directory.resolve("image.png.gz")).doesNotExist();
+  }
+}
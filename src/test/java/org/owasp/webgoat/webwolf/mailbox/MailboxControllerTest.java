@@ -18,6 +18,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -70,6 +71,35 @@ public class MailboxControllerTest {
         .andExpect(status().isCreated());
   }
 
+  @Test
+  public void sendingMultipleMailsShouldStoreAllOfThem() throws Exception {
+    var emails =
+        List.of(
+            Email.builder()
+                .contents("First mail")
+                .recipient("test1234")
+                .sender("webgoat@owasp.org")
+                .title("First")
+                .build(),
+            Email.builder()
+                .contents("Second mail")
+                .recipient("test1235")
+                .sender("webgoat@owasp.org")
+                .title("Second")
+                .build());
+    this.mvc
+        .perform(
+            post("/mail/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(emails)))
+        .andExpect(status().isCreated());
+
+    Mockito.verify(mailbox)
+        .saveAll(
+            Mockito.<List<Email>>argThat(
+                saved -> saved.size() == 2 && saved.get(1).getContents().equals("Second mail")));
+  }
+
   @Test
   @WithMockUser(username = "test1234")
   public void userShouldBeAbleToReadOwnEmail() throws Exception {